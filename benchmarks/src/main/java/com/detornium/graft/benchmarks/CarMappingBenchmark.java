@@ -0,0 +1,97 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.benchmarks;
+
+import com.detornium.graft.mappers.CarToCarDtoMapper;
+import com.detornium.graft.mappers.CarToCarDtoRecordMapper;
+import com.detornium.graft.models.Car;
+import com.detornium.graft.models.CarDto;
+import com.detornium.graft.models.CarDtoRecord;
+import com.detornium.graft.specs.CarToCarDtoMapperSpec;
+import com.detornium.graft.specs.CarToCarDtoRecordMapperSpec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Car} to {@code CarDto} and {@code CarDtoRecord}: the generated mappers against hand-written and reflective
+ * mapping. {@code prevOwners} is passed by reference, so its size only shows up in the setup.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CarMappingBenchmark {
+
+    @Param({"0", "10"})
+    public int size;
+
+    private Car car;
+
+    private final ReflectiveMapper<Car, CarDto> reflectiveCarDto = ReflectiveMapper.builder(Car.class, CarDto.class)
+            .rename("model", "carModel")
+            .rename("prevOwners", "previousOwners")
+            .compute("version", c -> String.valueOf(c.getVersion()))
+            .compute("description", CarToCarDtoMapperSpec::carToDescription)
+            .compute("notes", c -> "N/A")
+            .build();
+
+    private final ReflectiveMapper<Car, CarDtoRecord> reflectiveCarDtoRecord = ReflectiveMapper.builder(Car.class, CarDtoRecord.class)
+            .rename("model", "carModel")
+            .compute("version", c -> String.valueOf(c.getVersion()))
+            .compute("description", CarToCarDtoRecordMapperSpec::carToDescription)
+            .compute("notes", c -> "N/A")
+            .build();
+
+    @Setup
+    public void setUp() {
+        car = Fixtures.car(size);
+    }
+
+    @Benchmark
+    public CarDto carDtoGraft() {
+        return CarToCarDtoMapper.INSTANCE.map(car);
+    }
+
+    @Benchmark
+    public CarDto carDtoHandWritten() {
+        return HandWrittenMappers.toCarDto(car);
+    }
+
+    @Benchmark
+    public CarDto carDtoReflective() {
+        return reflectiveCarDto.map(car);
+    }
+
+    @Benchmark
+    public CarDtoRecord carDtoRecordGraft() {
+        return CarToCarDtoRecordMapper.INSTANCE.map(car);
+    }
+
+    @Benchmark
+    public CarDtoRecord carDtoRecordHandWritten() {
+        return HandWrittenMappers.toCarDtoRecord(car);
+    }
+
+    @Benchmark
+    public CarDtoRecord carDtoRecordReflective() {
+        return reflectiveCarDtoRecord.map(car);
+    }
+}
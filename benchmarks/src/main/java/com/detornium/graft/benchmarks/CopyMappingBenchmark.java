@@ -0,0 +1,108 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.benchmarks;
+
+import com.detornium.graft.mappers.CopyRawCollectionsMapper;
+import com.detornium.graft.mappers.CopyTestMapper;
+import com.detornium.graft.mappers.SpecificCollectionsBeanMapper;
+import com.detornium.graft.models.CopyTestBean;
+import com.detornium.graft.models.CopyTestDto;
+import com.detornium.graft.models.RawCollectionsBean;
+import com.detornium.graft.models.SpecificCollectionsBean;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code copy()} mappings of {@code CopyTestBean}, raw and specific collections: the generated mappers against
+ * hand-written copies and reflective copying, for collections of {@code size} elements.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CopyMappingBenchmark {
+
+    @Param({"0", "10", "1000"})
+    public int size;
+
+    private CopyTestBean copyTestBean;
+    private RawCollectionsBean rawCollectionsBean;
+    private SpecificCollectionsBean specificCollectionsBean;
+
+    private final ReflectiveMapper<CopyTestBean, CopyTestDto> reflectiveCopyTest =
+            ReflectiveMapper.builder(CopyTestBean.class, CopyTestDto.class).copyValues().build();
+    private final ReflectiveMapper<RawCollectionsBean, RawCollectionsBean> reflectiveRawCollections =
+            ReflectiveMapper.builder(RawCollectionsBean.class, RawCollectionsBean.class).copyValues().build();
+    private final ReflectiveMapper<SpecificCollectionsBean, SpecificCollectionsBean> reflectiveSpecificCollections =
+            ReflectiveMapper.builder(SpecificCollectionsBean.class, SpecificCollectionsBean.class).copyValues().build();
+
+    @Setup
+    public void setUp() {
+        copyTestBean = Fixtures.copyTestBean(size);
+        rawCollectionsBean = Fixtures.rawCollectionsBean(size);
+        specificCollectionsBean = Fixtures.specificCollectionsBean(size);
+    }
+
+    @Benchmark
+    public CopyTestDto copyTestGraft() {
+        return CopyTestMapper.INSTANCE.map(copyTestBean);
+    }
+
+    @Benchmark
+    public CopyTestDto copyTestHandWritten() {
+        return HandWrittenMappers.toCopyTestDto(copyTestBean);
+    }
+
+    @Benchmark
+    public CopyTestDto copyTestReflective() {
+        return reflectiveCopyTest.map(copyTestBean);
+    }
+
+    @Benchmark
+    public RawCollectionsBean rawCollectionsGraft() {
+        return CopyRawCollectionsMapper.INSTANCE.map(rawCollectionsBean);
+    }
+
+    @Benchmark
+    public RawCollectionsBean rawCollectionsHandWritten() {
+        return HandWrittenMappers.copy(rawCollectionsBean);
+    }
+
+    @Benchmark
+    public RawCollectionsBean rawCollectionsReflective() {
+        return reflectiveRawCollections.map(rawCollectionsBean);
+    }
+
+    @Benchmark
+    public SpecificCollectionsBean specificCollectionsGraft() {
+        return SpecificCollectionsBeanMapper.INSTANCE.map(specificCollectionsBean);
+    }
+
+    @Benchmark
+    public SpecificCollectionsBean specificCollectionsHandWritten() {
+        return HandWrittenMappers.copy(specificCollectionsBean);
+    }
+
+    @Benchmark
+    public SpecificCollectionsBean specificCollectionsReflective() {
+        return reflectiveSpecificCollections.map(specificCollectionsBean);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.benchmarks;
+
+import com.detornium.graft.models.*;
+
+import java.time.DayOfWeek;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark inputs, every collection holding {@code size} elements.
+ */
+public final class Fixtures {
+
+    // Map keys stay strongly reachable, otherwise the GC may clear WeakHashMap entries while a benchmark or test runs
+    private static final Map<Integer, String> KEYS = new ConcurrentHashMap<>();
+
+    private Fixtures() {
+    }
+
+    public static Car car(int size) {
+        Car car = new Car();
+        car.setColor("red");
+        car.setModel("Model S");
+        car.setVersion(3);
+        car.setPrevOwners(strings(size, ArrayList::new));
+        return car;
+    }
+
+    public static CopyTestBean copyTestBean(int size) {
+        CopyTestBean bean = new CopyTestBean();
+        bean.setObject(new CloneableObject("a", "b"));
+        bean.setList(strings(size, ArrayList::new));
+        bean.setSet(integers(size, HashSet::new));
+        bean.setSortedSet(integers(size, TreeSet::new));
+        bean.setMap(entries(size, HashMap::new));
+        bean.setConcurrentMap(entries(size, ConcurrentHashMap::new));
+        bean.setSortedMap(entries(size, TreeMap::new));
+        bean.setNavigableMap(entries(size, TreeMap::new));
+        bean.setArray(new int[size]);
+        return bean;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static RawCollectionsBean rawCollectionsBean(int size) {
+        RawCollectionsBean bean = new RawCollectionsBean();
+        bean.setList(strings(size, ArrayList::new));
+        bean.setSet(integers(size, HashSet::new));
+        bean.setMap(entries(size, HashMap::new));
+        return bean;
+    }
+
+    public static SpecificCollectionsBean specificCollectionsBean(int size) {
+        SpecificCollectionsBean bean = new SpecificCollectionsBean();
+        bean.setArrayList(strings(size, ArrayList::new));
+        bean.setLinkedList(strings(size, LinkedList::new));
+        bean.setVector(strings(size, Vector::new));
+        bean.setCopyOnWriteArrayList(new CopyOnWriteArrayList<>(strings(size, ArrayList::new)));
+        bean.setHashSet(integers(size, HashSet::new));
+        bean.setLinkedHashSet(integers(size, LinkedHashSet::new));
+        bean.setTreeSet(integers(size, TreeSet::new));
+        bean.setEnumSet(EnumSet.copyOf(Arrays.asList(DayOfWeek.values()).subList(0, Math.max(1, Math.min(size, 7)))));
+        bean.setConcurrentSkipListSet(integers(size, ConcurrentSkipListSet::new));
+        bean.setHashMap(entries(size, HashMap::new));
+        bean.setLinkedHashMap(entries(size, LinkedHashMap::new));
+        bean.setTreeMap(entries(size, TreeMap::new));
+        bean.setIdentityHashMap(entries(size, IdentityHashMap::new));
+        EnumMap<DayOfWeek, String> enumMap = new EnumMap<>(DayOfWeek.class);
+        for (int i = 0; i < Math.min(size, 7); i++) {
+            enumMap.put(DayOfWeek.of(i + 1), "v" + i);
+        }
+        bean.setEnumMap(enumMap);
+        bean.setWeakHashMap(entries(size, WeakHashMap::new));
+        bean.setConcurrentHashMap(entries(size, ConcurrentHashMap::new));
+        bean.setConcurrentSkipListMap(entries(size, ConcurrentSkipListMap::new));
+        return bean;
+    }
+
+    private static <C extends Collection<String>> C strings(int size, Supplier<C> factory) {
+        C result = factory.get();
+        for (int i = 0; i < size; i++) {
+            result.add("s" + i);
+        }
+        return result;
+    }
+
+    private static <C extends Collection<Integer>> C integers(int size, Supplier<C> factory) {
+        C result = factory.get();
+        for (int i = 0; i < size; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    private static <M extends Map<String, String>> M entries(int size, Supplier<M> factory) {
+        M result = factory.get();
+        for (int i = 0; i < size; i++) {
+            result.put(KEYS.computeIfAbsent(i, k -> "k" + k), "v" + i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.benchmarks;
+
+import com.detornium.graft.models.*;
+import com.detornium.graft.specs.CarToCarDtoMapperSpec;
+import com.detornium.graft.specs.CarToCarDtoRecordMapperSpec;
+
+import java.time.DayOfWeek;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The mapping code a developer would write by hand for the benchmarked specs, with the same semantics as the
+ * generated mappers.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class HandWrittenMappers {
+
+    private HandWrittenMappers() {
+    }
+
+    public static CarDto toCarDto(Car car) {
+        if (car == null) {
+            return null;
+        }
+        CarDto dto = new CarDto();
+        dto.setCarModel(car.getModel());
+        dto.setVersion(String.valueOf(car.getVersion()));
+        dto.setPreviousOwners(car.getPrevOwners());
+        dto.setDescription(CarToCarDtoMapperSpec.carToDescription(car));
+        dto.setNotes("N/A");
+        dto.setColor(car.getColor());
+        return dto;
+    }
+
+    public static CarDtoRecord toCarDtoRecord(Car car) {
+        if (car == null) {
+            return null;
+        }
+        return new CarDtoRecord(car.getColor(), car.getModel(), String.valueOf(car.getVersion()), null,
+                CarToCarDtoRecordMapperSpec.carToDescription(car), "N/A");
+    }
+
+    public static CopyTestDto toCopyTestDto(CopyTestBean bean) {
+        if (bean == null) {
+            return null;
+        }
+        CopyTestDto dto = new CopyTestDto();
+        dto.setObject(bean.getObject() != null ? bean.getObject().clone() : null);
+        dto.setList(bean.getList() != null ? new ArrayList<>(bean.getList()) : null);
+        dto.setSet(bean.getSet() != null ? new HashSet<>(bean.getSet()) : null);
+        dto.setSortedSet(bean.getSortedSet() != null ? new TreeSet<>(bean.getSortedSet()) : null);
+        dto.setMap(bean.getMap() != null ? new HashMap<>(bean.getMap()) : null);
+        dto.setConcurrentMap(bean.getConcurrentMap() != null ? new ConcurrentHashMap<>(bean.getConcurrentMap()) : null);
+        dto.setSortedMap(bean.getSortedMap() != null ? new TreeMap<>(bean.getSortedMap()) : null);
+        dto.setNavigableMap(bean.getNavigableMap() != null ? new TreeMap<>(bean.getNavigableMap()) : null);
+        dto.setArray(bean.getArray() != null ? bean.getArray().clone() : null);
+        return dto;
+    }
+
+    public static RawCollectionsBean copy(RawCollectionsBean bean) {
+        if (bean == null) {
+            return null;
+        }
+        RawCollectionsBean copy = new RawCollectionsBean();
+        copy.setList(bean.getList() != null ? new ArrayList(bean.getList()) : null);
+        copy.setSet(bean.getSet() != null ? new HashSet(bean.getSet()) : null);
+        copy.setMap(bean.getMap() != null ? new HashMap(bean.getMap()) : null);
+        return copy;
+    }
+
+    public static SpecificCollectionsBean copy(SpecificCollectionsBean bean) {
+        if (bean == null) {
+            return null;
+        }
+        SpecificCollectionsBean copy = new SpecificCollectionsBean();
+        copy.setArrayList(bean.getArrayList() != null ? new ArrayList<>(bean.getArrayList()) : null);
+        copy.setLinkedList(bean.getLinkedList() != null ? new LinkedList<>(bean.getLinkedList()) : null);
+        copy.setVector(bean.getVector() != null ? new Vector<>(bean.getVector()) : null);
+        copy.setCopyOnWriteArrayList(bean.getCopyOnWriteArrayList() != null
+                ? new CopyOnWriteArrayList<>(bean.getCopyOnWriteArrayList()) : null);
+        copy.setHashSet(bean.getHashSet() != null ? new HashSet<>(bean.getHashSet()) : null);
+        copy.setLinkedHashSet(bean.getLinkedHashSet() != null ? new LinkedHashSet<>(bean.getLinkedHashSet()) : null);
+        copy.setTreeSet(bean.getTreeSet() != null ? new TreeSet<>(bean.getTreeSet()) : null);
+        copy.setEnumSet(bean.getEnumSet() != null ? EnumSet.copyOf(bean.getEnumSet()) : null);
+        copy.setConcurrentSkipListSet(bean.getConcurrentSkipListSet() != null
+                ? new ConcurrentSkipListSet<>(bean.getConcurrentSkipListSet()) : null);
+        copy.setHashMap(bean.getHashMap() != null ? new HashMap<>(bean.getHashMap()) : null);
+        copy.setLinkedHashMap(bean.getLinkedHashMap() != null ? new LinkedHashMap<>(bean.getLinkedHashMap()) : null);
+        copy.setTreeMap(bean.getTreeMap() != null ? new TreeMap<>(bean.getTreeMap()) : null);
+        copy.setIdentityHashMap(bean.getIdentityHashMap() != null ? new IdentityHashMap<>(bean.getIdentityHashMap()) : null);
+        copy.setEnumMap(bean.getEnumMap() != null ? new EnumMap<DayOfWeek, String>(bean.getEnumMap()) : null);
+        copy.setWeakHashMap(bean.getWeakHashMap() != null ? new WeakHashMap<>(bean.getWeakHashMap()) : null);
+        copy.setConcurrentHashMap(bean.getConcurrentHashMap() != null
+                ? new ConcurrentHashMap<>(bean.getConcurrentHashMap()) : null);
+        copy.setConcurrentSkipListMap(bean.getConcurrentSkipListMap() != null
+                ? new ConcurrentSkipListMap<>(bean.getConcurrentSkipListMap()) : null);
+        return copy;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.benchmarks;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Reflective bean-copy baseline in the style of {@code BeanUtils.copyProperties}: properties are resolved once
+ * through {@link Introspector} and copied by name with {@link Method#invoke}. Renamed and computed properties cover
+ * what the specs map explicitly; with {@code copyValues} collections, arrays and {@link Cloneable}s are copied
+ * like {@code copy()} does.
+ */
+public final class ReflectiveMapper<S, D> {
+
+    private static final Object NO_COPY = new Object();
+
+    // Public clone() or copy constructor of a runtime class, NO_COPY for values that are shared
+    private static final ClassValue<Object> COPIERS = new ClassValue<>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            if (type.isArray()) {
+                return type;
+            }
+            if (Cloneable.class.isAssignableFrom(type)) {
+                try {
+                    return type.getMethod("clone");
+                } catch (NoSuchMethodException ignored) {
+                    // fall through to a copy constructor
+                }
+            }
+            for (Class<?> parameter : List.of(Collection.class, Map.class)) {
+                if (parameter.isAssignableFrom(type)) {
+                    try {
+                        return type.getConstructor(parameter);
+                    } catch (NoSuchMethodException ignored) {
+                        return NO_COPY;
+                    }
+                }
+            }
+            return NO_COPY;
+        }
+    };
+
+    private final Constructor<D> constructor;
+    private final boolean record;
+    private final String[] targets;
+    private final Function<S, ?>[] readers;
+    private final Method[] setters;
+
+    private ReflectiveMapper(Constructor<D> constructor, boolean record, String[] targets,
+                             Function<S, ?>[] readers, Method[] setters) {
+        this.constructor = constructor;
+        this.record = record;
+        this.targets = targets;
+        this.readers = readers;
+        this.setters = setters;
+    }
+
+    public static <S, D> Builder<S, D> builder(Class<S> source, Class<D> target) {
+        return new Builder<>(source, target);
+    }
+
+    public D map(S src) {
+        if (src == null) {
+            return null;
+        }
+        try {
+            if (record) {
+                Object[] args = new Object[readers.length];
+                for (int i = 0; i < readers.length; i++) {
+                    args[i] = readers[i] == null ? null : readers[i].apply(src);
+                }
+                return constructor.newInstance(args);
+            }
+
+            D dst = constructor.newInstance();
+            for (int i = 0; i < setters.length; i++) {
+                setters[i].invoke(dst, readers[i].apply(src));
+            }
+            return dst;
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Failed to map to " + Arrays.toString(targets), ex);
+        }
+    }
+
+    static Object copyValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Object copier = COPIERS.get(value.getClass());
+        try {
+            if (copier instanceof Method clone) {
+                return clone.invoke(value);
+            }
+            if (copier instanceof Constructor<?> copyConstructor) {
+                return copyConstructor.newInstance(value);
+            }
+            if (copier instanceof Class<?> arrayType) {
+                int length = Array.getLength(value);
+                Object copy = Array.newInstance(arrayType.getComponentType(), length);
+                System.arraycopy(value, 0, copy, 0, length);
+                return copy;
+            }
+            return value;
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Failed to copy " + value.getClass().getName(), ex);
+        }
+    }
+
+    public static final class Builder<S, D> {
+        private final Class<S> source;
+        private final Class<D> target;
+        private final Map<String, String> renames = new HashMap<>();
+        private final Map<String, Function<S, ?>> computed = new HashMap<>();
+        private boolean copyValues;
+
+        private Builder(Class<S> source, Class<D> target) {
+            this.source = source;
+            this.target = target;
+        }
+
+        public Builder<S, D> rename(String sourceProperty, String targetProperty) {
+            renames.put(targetProperty, sourceProperty);
+            return this;
+        }
+
+        public Builder<S, D> compute(String targetProperty, Function<S, ?> value) {
+            computed.put(targetProperty, value);
+            return this;
+        }
+
+        public Builder<S, D> copyValues() {
+            copyValues = true;
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public ReflectiveMapper<S, D> build() {
+            try {
+                Map<String, Method> getters = new HashMap<>();
+                for (PropertyDescriptor property : Introspector.getBeanInfo(source, Object.class).getPropertyDescriptors()) {
+                    if (property.getReadMethod() != null) {
+                        getters.put(property.getName(), property.getReadMethod());
+                    }
+                }
+
+                List<String> targets = new ArrayList<>();
+                List<Function<S, ?>> readers = new ArrayList<>();
+                List<Method> setters = new ArrayList<>();
+
+                if (target.isRecord()) {
+                    RecordComponent[] components = target.getRecordComponents();
+                    Class<?>[] types = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+                    for (RecordComponent component : components) {
+                        targets.add(component.getName());
+                        readers.add(reader(component.getName(), getters));
+                    }
+                    return new ReflectiveMapper<>(target.getDeclaredConstructor(types), true,
+                            targets.toArray(String[]::new), readers.toArray(Function[]::new), new Method[0]);
+                }
+
+                for (PropertyDescriptor property : Introspector.getBeanInfo(target, Object.class).getPropertyDescriptors()) {
+                    Function<S, ?> reader = reader(property.getName(), getters);
+                    if (property.getWriteMethod() != null && reader != null) {
+                        targets.add(property.getName());
+                        readers.add(reader);
+                        setters.add(property.getWriteMethod());
+                    }
+                }
+                return new ReflectiveMapper<>(target.getDeclaredConstructor(), false,
+                        targets.toArray(String[]::new), readers.toArray(Function[]::new), setters.toArray(Method[]::new));
+            } catch (IntrospectionException | NoSuchMethodException ex) {
+                throw new IllegalArgumentException("Failed to introspect " + source.getName() + " -> " + target.getName(), ex);
+            }
+        }
+
+        // Null for target properties without a value, which are left unset
+        private Function<S, ?> reader(String targetProperty, Map<String, Method> getters) {
+            Function<S, ?> value = computed.get(targetProperty);
+            if (value != null) {
+                return value;
+            }
+
+            Method getter = getters.get(renames.getOrDefault(targetProperty, targetProperty));
+            if (getter == null) {
+                return null;
+            }
+            boolean copy = copyValues;
+            return src -> {
+                try {
+                    Object result = getter.invoke(src);
+                    return copy ? copyValue(result) : result;
+                } catch (ReflectiveOperationException ex) {
+                    throw new IllegalStateException("Failed to read " + getter.getName(), ex);
+                }
+            };
+        }
+    }
+}
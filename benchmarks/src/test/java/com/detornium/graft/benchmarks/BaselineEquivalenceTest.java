@@ -0,0 +1,76 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.benchmarks;
+
+import com.detornium.graft.mappers.CarToCarDtoMapper;
+import com.detornium.graft.mappers.CarToCarDtoRecordMapper;
+import com.detornium.graft.mappers.CopyRawCollectionsMapper;
+import com.detornium.graft.mappers.CopyTestMapper;
+import com.detornium.graft.mappers.SpecificCollectionsBeanMapper;
+import com.detornium.graft.models.CopyTestBean;
+import com.detornium.graft.models.CopyTestDto;
+import com.detornium.graft.models.RawCollectionsBean;
+import com.detornium.graft.models.SpecificCollectionsBean;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The baselines are only a fair comparison if they do the same work as the generated mappers
+class BaselineEquivalenceTest {
+
+    @Test
+    void car_baselines_map_like_generated_mappers() {
+        CarMappingBenchmark benchmark = new CarMappingBenchmark();
+        benchmark.size = 10;
+        benchmark.setUp();
+
+        assertThat(benchmark.carDtoHandWritten()).isEqualTo(benchmark.carDtoGraft());
+        assertThat(benchmark.carDtoReflective()).isEqualTo(benchmark.carDtoGraft());
+        assertThat(benchmark.carDtoRecordHandWritten()).isEqualTo(benchmark.carDtoRecordGraft());
+        assertThat(benchmark.carDtoRecordReflective()).isEqualTo(benchmark.carDtoRecordGraft());
+        assertThat(CarToCarDtoMapper.INSTANCE.map(null)).isNull();
+        assertThat(CarToCarDtoRecordMapper.INSTANCE.map(null)).isNull();
+    }
+
+    @Test
+    void copy_baselines_copy_like_generated_mappers() {
+        CopyMappingBenchmark benchmark = new CopyMappingBenchmark();
+        benchmark.size = 10;
+        benchmark.setUp();
+
+        CopyTestBean copyTestBean = Fixtures.copyTestBean(10);
+        CopyTestDto graft = CopyTestMapper.INSTANCE.map(copyTestBean);
+        assertThat(benchmark.copyTestHandWritten()).isEqualTo(graft);
+        CopyTestDto reflective = benchmark.copyTestReflective();
+        assertThat(reflective).isEqualTo(graft);
+        assertThat(reflective.getList()).isNotSameAs(copyTestBean.getList());
+        assertThat(reflective.getArray()).isNotSameAs(copyTestBean.getArray());
+
+        RawCollectionsBean raw = benchmark.rawCollectionsGraft();
+        assertThat(benchmark.rawCollectionsHandWritten()).isEqualTo(raw);
+        assertThat(benchmark.rawCollectionsReflective()).isEqualTo(raw);
+        assertThat(CopyRawCollectionsMapper.INSTANCE.map(Fixtures.rawCollectionsBean(10))).isEqualTo(raw);
+
+        SpecificCollectionsBean specific = benchmark.specificCollectionsGraft();
+        assertThat(benchmark.specificCollectionsHandWritten()).isEqualTo(specific);
+        SpecificCollectionsBean reflectiveSpecific = benchmark.specificCollectionsReflective();
+        assertThat(reflectiveSpecific).isEqualTo(specific);
+        assertThat(reflectiveSpecific.getWeakHashMap()).isEqualTo(specific.getWeakHashMap());
+        assertThat(SpecificCollectionsBeanMapper.INSTANCE.map(null)).isNull();
+    }
+}
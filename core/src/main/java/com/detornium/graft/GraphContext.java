@@ -0,0 +1,146 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft;
+
+/**
+ * Source-to-target identity table used by graph mappers for one mapping call.
+ * <p>
+ * Entries are keyed by the source object and the target type, so the same source can be mapped to several target
+ * types within one graph. Sources are compared by reference. The table uses open addressing with linear probing over
+ * a single array of interleaved (source, target type, target) entries, so lookups and inserts allocate nothing
+ * besides an occasional resize. Instances are not thread-safe and are meant to live for a single top-level mapping
+ * call or batch.
+ */
+public final class GraphContext {
+    // Marks a source whose target cannot be referenced until it is constructed, e.g. a record
+    private static final Object RESERVED = new Object();
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int ENTRY = 3;
+
+    private Object[] table;
+    private int mask; // capacity - 1, in entries
+    private int size;
+
+    public GraphContext() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize number of source objects expected to be mapped
+     */
+    public GraphContext(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < expectedSize * 2 && capacity < 1 << 28) {
+            capacity <<= 1;
+        }
+        table = new Object[capacity * ENTRY];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns the target of type {@code type} already mapped from {@code src}, or null if it was not mapped yet.
+     *
+     * @throws IllegalStateException if {@code src} is reserved, i.e. it references itself through a target
+     *                               that cannot be created before its properties are mapped
+     */
+    @SuppressWarnings("unchecked")
+    public <D> D get(Object src, Class<D> type) {
+        Object[] tab = table;
+        for (int i = index(src, type, mask); tab[i * ENTRY] != null; i = (i + 1) & mask) {
+            int j = i * ENTRY;
+            if (tab[j] == src && tab[j + 1] == type) {
+                Object dst = tab[j + 2];
+                if (dst == RESERVED) {
+                    throw new IllegalStateException("Cyclic reference to %s cannot be mapped to an immutable target"
+                            .formatted(src.getClass().getName()));
+                }
+                return (D) dst;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registers the target of type {@code type} mapped from {@code src}. Mutable targets are registered before
+     * their properties are mapped, so back-references resolve to the same instance.
+     */
+    public <D> void put(Object src, Class<D> type, D dst) {
+        store(src, type, dst);
+    }
+
+    /**
+     * Marks {@code src} as being mapped to a target of type {@code type} that only exists once all its properties
+     * are mapped. A lookup of a reserved source fails instead of recursing forever.
+     */
+    public void reserve(Object src, Class<?> type) {
+        store(src, type, RESERVED);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void store(Object src, Class<?> type, Object dst) {
+        Object[] tab = table;
+        int i = index(src, type, mask);
+        for (; tab[i * ENTRY] != null; i = (i + 1) & mask) {
+            int j = i * ENTRY;
+            if (tab[j] == src && tab[j + 1] == type) {
+                tab[j + 2] = dst;
+                return;
+            }
+        }
+
+        int j = i * ENTRY;
+        tab[j] = src;
+        tab[j + 1] = type;
+        tab[j + 2] = dst;
+        if (++size * 2 > mask + 1) {
+            resize();
+        }
+    }
+
+    // Spreads the identity hashes of source and target type over the entries
+    private static int index(Object src, Class<?> type, int mask) {
+        int h = System.identityHashCode(src) * 31 + System.identityHashCode(type);
+        h ^= h >>> 16;
+        return h & mask;
+    }
+
+    private void resize() {
+        Object[] old = table;
+        int newMask = (mask + 1) * 2 - 1;
+        Object[] tab = new Object[(newMask + 1) * ENTRY];
+        for (int k = 0; k < old.length; k += ENTRY) {
+            Object key = old[k];
+            if (key != null) {
+                int i = index(key, (Class<?>) old[k + 1], newMask);
+                while (tab[i * ENTRY] != null) {
+                    i = (i + 1) & newMask;
+                }
+                int j = i * ENTRY;
+                tab[j] = key;
+                tab[j + 1] = old[k + 1];
+                tab[j + 2] = old[k + 2];
+            }
+        }
+        table = tab;
+        mask = newMask;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft;
+
+/**
+ * Mapper generated for a spec annotated with {@link com.detornium.graft.annotations.GraphMapping}.
+ * <p>
+ * Every source instance reachable in one call is mapped once: shared references in the source graph stay shared
+ * in the target graph and cycles are reproduced instead of recursing forever. {@link #map(Object)} and the batch
+ * methods create a fresh {@link GraphContext} per call; nested graph mappers receive the caller's context.
+ */
+public interface GraphMapper<S, D> extends Mapper<S, D> {
+
+    /**
+     * Maps {@code src}, returning the target already registered in the context for it, if any.
+     */
+    D map(S src, GraphContext ctx);
+}
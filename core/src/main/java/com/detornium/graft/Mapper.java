@@ -16,6 +16,140 @@
 
 package com.detornium.graft;
 
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
 public interface Mapper<S, D> {
     D map(S src);
+
+    /**
+     * Maps a source the caller knows is not null. Generated mappers override this method without the null check
+     * of {@link #map(Object)}; batch methods and nested mappers call it for sources already checked or annotated
+     * as non-null. The result of passing null is undefined.
+     */
+    default D mapNonNull(S src) {
+        return map(src);
+    }
+
+    /**
+     * Maps every element of the given collection, preserving iteration order.
+     * Null elements are mapped to null.
+     * Generated mappers override this method with a specialised loop.
+     *
+     * @return a new mutable list with the mapped elements, or null if the source is null
+     */
+    default List<D> mapAll(Collection<? extends S> src) {
+        if (src == null) {
+            return null;
+        }
+        List<D> dst = new ArrayList<>(src.size());
+        for (S element : src) {
+            dst.add(element == null ? null : map(element));
+        }
+        return dst;
+    }
+
+    /**
+     * Maps every element of the given array, preserving order.
+     * Null elements are mapped to null.
+     * Generated mappers override this method with a specialised loop.
+     *
+     * @return a new mutable list with the mapped elements, or null if the source is null
+     */
+    default List<D> mapAll(S[] src) {
+        if (src == null) {
+            return null;
+        }
+        List<D> dst = new ArrayList<>(src.length);
+        for (S element : src) {
+            dst.add(element == null ? null : map(element));
+        }
+        return dst;
+    }
+
+    /**
+     * Maps every element of the given iterable and adds the results to the target collection.
+     * Null elements are mapped to null. Nothing is added if the source is null.
+     * Generated mappers override this method with a specialised loop.
+     *
+     * @return the target collection
+     */
+    default <C extends Collection<? super D>> C mapInto(Iterable<? extends S> src, C dst) {
+        if (src == null) {
+            return dst;
+        }
+        for (S element : src) {
+            dst.add(element == null ? null : map(element));
+        }
+        return dst;
+    }
+
+    /**
+     * Maps the list in parallel on the common fork/join pool, preserving order.
+     *
+     * @see #mapAllParallel(List, int, ForkJoinPool)
+     */
+    default List<D> mapAllParallel(List<? extends S> src, int minChunk) {
+        return mapAllParallel(src, minChunk, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Maps the list in parallel on the given pool, preserving order.
+     * The list is split into index ranges of at most {@code minChunk} elements; lists not larger than
+     * {@code minChunk} are mapped sequentially in the calling thread.
+     * Null elements are mapped to null.
+     *
+     * @return a fixed-size list backed by the result array, or null if the source is null
+     */
+    @SuppressWarnings("unchecked")
+    default List<D> mapAllParallel(List<? extends S> src, int minChunk, ForkJoinPool pool) {
+        if (src == null) {
+            return null;
+        }
+        List<? extends S> source = src instanceof RandomAccess ? src : new ArrayList<>(src);
+        Object[] dst = new Object[source.size()];
+        ParallelMapping.forEachRange(pool, dst.length, minChunk, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                S element = source.get(i);
+                dst[i] = element == null ? null : map(element);
+            }
+        });
+        return (List<D>) Arrays.asList(dst);
+    }
+
+    /**
+     * Returns an iterator that maps source elements lazily, one per {@code next()} call.
+     * Null elements are mapped to null; {@code remove()} is delegated to the source iterator.
+     */
+    default Iterator<D> mapIterator(Iterator<? extends S> src) {
+        return new MappingIterator<>(src, this);
+    }
+
+    /**
+     * Returns a spliterator that maps source elements lazily.
+     * {@code SIZED}, {@code SUBSIZED} and {@code ORDERED} characteristics of the source are preserved and
+     * splitting is delegated to the source, so the result can feed parallel streams with constant memory.
+     * Null elements are mapped to null.
+     */
+    default Spliterator<D> mapSpliterator(Spliterator<? extends S> src) {
+        return new MappingSpliterator<>(src, this);
+    }
+
+    /**
+     * Returns a collector that maps source elements and accumulates them into a list.
+     * Null elements are mapped to null.
+     */
+    default Collector<S, ?, List<D>> toCollector() {
+        return toCollector(Collectors.toList());
+    }
+
+    /**
+     * Returns a collector that maps source elements and passes them to the downstream collector.
+     * Null elements are mapped to null.
+     */
+    default <A, R> Collector<S, ?, R> toCollector(Collector<? super D, A, R> downstream) {
+        return Collectors.mapping(element -> element == null ? null : map(element), downstream);
+    }
 }
@@ -0,0 +1,30 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft;
+
+/**
+ * Index of the mappers generated in one compilation, implemented by the generated {@code GraftMappers} class and
+ * listed in {@value Mappers#INDEX_RESOURCE}. Used by {@link Mappers}; not meant to be called directly.
+ */
+public interface MapperIndex {
+
+    /**
+     * Returns the mapper for exactly this source and target class, or null if this index has none.
+     */
+    Mapper<?, ?> find(Class<?> src, Class<?> dst);
+}
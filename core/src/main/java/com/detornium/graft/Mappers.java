@@ -0,0 +1,147 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Runtime lookup of generated mappers by source and target class.
+ * <p>
+ * The processor writes a {@code GraftMappers} index class per compilation and lists it in
+ * {@value #INDEX_RESOURCE}. The indexes are loaded once, on first use, from the class loader of this class and
+ * the context class loader of the thread making that first lookup, so mappers of applications deployed in a child
+ * class loader (servlet containers, plugin hosts) are found when Graft sits in a parent one. Each (source, target)
+ * pair is then resolved once and cached in {@link ClassValue}s, so later lookups are lock-free and do not depend on
+ * the number of mappers. A source class without a mapper of its own uses the mapper of its nearest superclass,
+ * e.g. for proxies.
+ */
+public final class Mappers {
+    public static final String INDEX_RESOURCE = "META-INF/graft/mappers";
+
+    private static final ClassValue<ClassValue<Optional<Mapper<?, ?>>>> MAPPERS = new ClassValue<>() {
+        @Override
+        protected ClassValue<Optional<Mapper<?, ?>>> computeValue(Class<?> src) {
+            return new ClassValue<>() {
+                @Override
+                protected Optional<Mapper<?, ?>> computeValue(Class<?> dst) {
+                    return lookup(src, dst);
+                }
+            };
+        }
+    };
+
+    private Mappers() {
+    }
+
+    /**
+     * Returns the generated mapper from {@code src} to {@code dst}.
+     *
+     * @throws IllegalArgumentException if there is no such mapper
+     */
+    public static <S, D> Mapper<S, D> get(Class<S> src, Class<D> dst) {
+        return find(src, dst).orElseThrow(() -> new IllegalArgumentException(
+                "No mapper found for %s -> %s".formatted(src.getName(), dst.getName())));
+    }
+
+    /**
+     * Returns the generated mapper from {@code src} to {@code dst}, if any.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, D> Optional<Mapper<S, D>> find(Class<S> src, Class<D> dst) {
+        return MAPPERS.get(src).get(dst).map(m -> (Mapper<S, D>) m);
+    }
+
+    /**
+     * Maps {@code src} with the mapper for its runtime class and {@code dst}.
+     *
+     * @return the mapped object, or null if the source is null
+     * @throws IllegalArgumentException if there is no such mapper
+     */
+    @SuppressWarnings("unchecked")
+    public static <D> D map(Object src, Class<D> dst) {
+        if (src == null) {
+            return null;
+        }
+        Mapper<Object, D> mapper = (Mapper<Object, D>) get(src.getClass(), dst);
+        return mapper.map(src);
+    }
+
+    private static Optional<Mapper<?, ?>> lookup(Class<?> src, Class<?> dst) {
+        for (MapperIndex index : Indexes.ALL) {
+            Mapper<?, ?> mapper = index.find(src, dst);
+            if (mapper != null) {
+                return Optional.of(mapper);
+            }
+        }
+
+        Class<?> superclass = src.getSuperclass();
+        return superclass == null ? Optional.empty() : MAPPERS.get(superclass).get(dst);
+    }
+
+    // Initialized on first lookup
+    private static final class Indexes {
+        private static final List<MapperIndex> ALL = load(Mappers.class.getClassLoader(),
+                Thread.currentThread().getContextClassLoader());
+
+        // A child class loader also sees the indexes of its parents, each index is loaded once
+        private static List<MapperIndex> load(ClassLoader... classLoaders) {
+            List<MapperIndex> indexes = new ArrayList<>();
+            Set<String> loaded = new HashSet<>();
+            try {
+                for (ClassLoader classLoader : classLoaders) {
+                    if (classLoader == null) {
+                        continue;
+                    }
+                    Enumeration<URL> resources = classLoader.getResources(INDEX_RESOURCE);
+                    while (resources.hasMoreElements()) {
+                        for (String className : readClassNames(resources.nextElement())) {
+                            if (loaded.add(className)) {
+                                indexes.add((MapperIndex) Class.forName(className, true, classLoader)
+                                        .getDeclaredConstructor()
+                                        .newInstance());
+                            }
+                        }
+                    }
+                }
+            } catch (IOException | ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to load mapper indexes from " + INDEX_RESOURCE, e);
+            }
+            return List.copyOf(indexes);
+        }
+
+        private static List<String> readClassNames(URL resource) throws IOException {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                return reader.lines()
+                        .map(String::strip)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .toList();
+            }
+        }
+    }
+}
@@ -41,22 +41,57 @@ public class MappingDsl<S, D> {
     protected <V> void exclude(Setter<D, V> setter) {
     }
 
-    protected <V, RD extends Record> void exclude(Getter<RD, V> recordField) {
+    protected <V> void exclude(Getter<D, V> property) {
     }
 
     public interface MapChain<S, D, V> {
         void to(Setter<D, V> setter);
 
-        <RD extends Record> void to(Getter<RD, V> recordField);
+        /**
+         * Maps to a property of an immutable target, a record or a class created through its mapping constructor,
+         * referenced by its accessor, e.g. {@code CarDtoRecord::model} or {@code Money::getAmount}.
+         */
+        void to(Getter<D, V> property);
 
         <R> MapChainTo<D, R> converting(Converter<V, R> conv);
 
         MapChainTo<D, V> copy();
+
+        /**
+         * Maps the value with the generated mapper of another spec whose source is the getter type and whose
+         * target is the setter type. Same-name properties are mapped this way automatically.
+         */
+        MapChainToAny<D> nested();
+
+        /**
+         * Maps each element of a {@code Collection}, or each value of a {@code Map}, with the generated mapper
+         * of another spec. The target collection is created from the setter type and presized from the source.
+         */
+        MapChainToAny<D> each();
+
+        /**
+         * Maps each element of a {@code Collection}, or each value of a {@code Map}, with the converter.
+         */
+        <E, R> MapChainToAny<D> each(Converter<E, R> conv);
+
+        /**
+         * Maps each key and value of a {@code Map} with the given converters.
+         */
+        <K, RK, E, R> MapChainToAny<D> each(Converter<K, RK> keyConv, Converter<E, R> valueConv);
+    }
+
+    /**
+     * Final step of chains where the processor, not the Java compiler, checks the target property type.
+     */
+    public interface MapChainToAny<D> {
+        <T> void to(Setter<D, T> setter);
+
+        <T> void to(Getter<D, T> property);
     }
 
     public interface MapChainTo<D, V> {
         void to(Setter<D, V> setter);
 
-        <RD extends Record> void to(Getter<RD, V> recordField);
+        void to(Getter<D, V> property);
     }
 }
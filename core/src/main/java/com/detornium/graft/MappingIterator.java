@@ -0,0 +1,54 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Lazily maps the elements of a source iterator, one element per {@link #next()} call.
+ */
+final class MappingIterator<S, D> implements Iterator<D> {
+    private final Iterator<? extends S> source;
+    private final Mapper<S, D> mapper;
+
+    MappingIterator(Iterator<? extends S> source, Mapper<S, D> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return source.hasNext();
+    }
+
+    @Override
+    public D next() {
+        S element = source.next();
+        return element == null ? null : mapper.map(element);
+    }
+
+    @Override
+    public void remove() {
+        source.remove();
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super D> action) {
+        source.forEachRemaining(element -> action.accept(element == null ? null : mapper.map(element)));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Lazily maps the elements of a source spliterator.
+ * <p>
+ * Splitting is delegated to the source, so {@code SIZED}, {@code SUBSIZED} and {@code ORDERED} sources keep
+ * splitting well in parallel streams. Characteristics that describe the values themselves
+ * ({@code SORTED}, {@code DISTINCT} and {@code NONNULL}) are not preserved by mapping and are cleared.
+ */
+final class MappingSpliterator<S, D> implements Spliterator<D> {
+    private static final int CLEARED_CHARACTERISTICS = SORTED | DISTINCT | NONNULL;
+
+    private final Spliterator<? extends S> source;
+    private final Mapper<S, D> mapper;
+
+    MappingSpliterator(Spliterator<? extends S> source, Mapper<S, D> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super D> action) {
+        return source.tryAdvance(element -> action.accept(element == null ? null : mapper.map(element)));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super D> action) {
+        source.forEachRemaining(element -> action.accept(element == null ? null : mapper.map(element)));
+    }
+
+    @Override
+    public Spliterator<D> trySplit() {
+        Spliterator<? extends S> prefix = source.trySplit();
+        return prefix == null ? null : new MappingSpliterator<>(prefix, mapper);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return source.getExactSizeIfKnown();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ~CLEARED_CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join support for parallel batch mapping.
+ * <p>
+ * The index range {@code [0, size)} is split in halves until a part is not larger than {@code minChunk};
+ * every part is then handed to a {@link RangeMapper}. Parts never overlap, so range mappers can write
+ * results into a shared preallocated array without synchronization. Joining the tasks publishes the writes
+ * to the calling thread.
+ */
+public final class ParallelMapping {
+
+    private ParallelMapping() {
+    }
+
+    @FunctionalInterface
+    public interface RangeMapper {
+        /**
+         * Maps elements with indexes from {@code from} (inclusive) to {@code to} (exclusive).
+         */
+        void mapRange(int from, int to);
+    }
+
+    /**
+     * Runs the range mapper over {@code [0, size)}.
+     * Sizes not larger than {@code minChunk} are mapped sequentially in the calling thread.
+     */
+    public static void forEachRange(ForkJoinPool pool, int size, int minChunk, RangeMapper rangeMapper) {
+        if (minChunk < 1) {
+            throw new IllegalArgumentException("minChunk must be positive: " + minChunk);
+        }
+
+        if (size <= minChunk) {
+            rangeMapper.mapRange(0, size);
+            return;
+        }
+
+        pool.invoke(new RangeTask(rangeMapper, 0, size, minChunk));
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private final RangeMapper rangeMapper;
+        private final int from;
+        private final int to;
+        private final int minChunk;
+
+        private RangeTask(RangeMapper rangeMapper, int from, int to, int minChunk) {
+            this.rangeMapper = rangeMapper;
+            this.from = from;
+            this.to = to;
+            this.minChunk = minChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= minChunk) {
+                rangeMapper.mapRange(from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(rangeMapper, from, mid, minChunk),
+                    new RangeTask(rangeMapper, mid, to, minChunk));
+        }
+    }
+}
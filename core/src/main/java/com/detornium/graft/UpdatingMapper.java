@@ -0,0 +1,32 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft;
+
+/**
+ * Mapper that can also copy a source onto an existing target instance.
+ * Generated for bean targets, so a loaded entity can be refreshed without allocating a new target.
+ */
+public interface UpdatingMapper<S, D> extends Mapper<S, D> {
+
+    /**
+     * Copies the mapped properties of {@code src} onto {@code dst}, using the same property mappings as
+     * {@link #map(Object)}. Does nothing if the source is null.
+     *
+     * @param dst target to update, must not be null
+     */
+    void update(S src, D dst);
+}
@@ -0,0 +1,45 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates an identity-preserving {@link com.detornium.graft.GraphMapper}.
+ * Each source instance is mapped once per call; shared references and cycles of the source graph are
+ * reproduced in the target graph. Nested mappers of other graph specs share the caller's context.
+ * <p>
+ * Cycles can only be reproduced through mutable (bean) targets; a cycle that reaches a record target again
+ * while it is being constructed fails with {@link IllegalStateException}.
+ * <p>
+ * Usage:
+ * <pre>
+ * {@code
+ * @GraphMapping
+ * @MappingSpec(com.example.MyMapper.class)
+ * class MyMapperSpec extends MappingDsl<SourceType, DestinationType> {
+ * }
+ * }
+ * </pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface GraphMapping {
+}
@@ -0,0 +1,50 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates metrics hooks into the mapper: invocation counts, batch sizes and latencies are reported to the
+ * {@link com.detornium.graft.metrics.MapperMetrics} implementation when the application runs with
+ * {@code -Dgraft.metrics=true}. Otherwise the hooks are removed by the JIT.
+ * <p>
+ * All specs of a compilation can be metered with the processor option {@code -Agraft.metrics=true}, and
+ * their converters timed with {@code -Agraft.metrics.converters=true}.
+ * <p>
+ * Usage:
+ * <pre>
+ * {@code
+ * @Metered(converters = true)
+ * @MappingSpec(com.example.MyMapper.class)
+ * class MyMapperSpec extends MappingDsl<SourceType, DestinationType> {
+ * }
+ * }
+ * </pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Metered {
+
+    /**
+     * Also times every converted property separately.
+     */
+    boolean converters() default false;
+}
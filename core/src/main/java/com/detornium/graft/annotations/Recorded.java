@@ -0,0 +1,46 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates JFR event hooks into the mapper: batch entry points emit a
+ * {@link com.detornium.graft.jfr.MappingBatchEvent} and converted properties a
+ * {@link com.detornium.graft.jfr.SlowConversionEvent} while the event type is enabled in a recording. Mappers
+ * without this annotation do not reference {@code jdk.jfr} at all.
+ * <p>
+ * All specs of a compilation can be recorded with the processor option {@code -Agraft.events=true}.
+ * <p>
+ * Usage:
+ * <pre>
+ * {@code
+ * @Recorded
+ * @MappingSpec(com.example.MyMapper.class)
+ * class MyMapperSpec extends MappingDsl<SourceType, DestinationType> {
+ * }
+ * }
+ * </pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Recorded {
+}
@@ -0,0 +1,59 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+package com.detornium.graft.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines the values used when a null boxed source value (e.g. {@code Integer}) is mapped to a primitive
+ * target property (e.g. {@code int} or {@code long}). Without this annotation the primitive zero value is used.
+ * The value is chosen by the type of the target property.
+ * <p>
+ * Usage:
+ * <pre>
+ * {@code
+ * @UnboxingDefaults(intValue = -1, longValue = -1L)
+ * @MappingSpec(com.example.MyMapper.class)
+ * class MyMapperSpec extends MappingDsl<SourceType, DestinationType> {
+ *     {
+ *         map(SourceType::getBoxedCount).to(DestinationType::setPrimitiveCount);
+ *     }
+ * }
+ * }
+ * </pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface UnboxingDefaults {
+    boolean booleanValue() default false;
+
+    char charValue() default '\u0000';
+
+    byte byteValue() default 0;
+
+    short shortValue() default 0;
+
+    int intValue() default 0;
+
+    long longValue() default 0L;
+
+    float floatValue() default 0f;
+
+    double doubleValue() default 0d;
+}
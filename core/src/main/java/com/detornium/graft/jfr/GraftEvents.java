@@ -0,0 +1,84 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.jfr;
+
+import jdk.jfr.EventType;
+
+/**
+ * Emits the JFR events of generated mappers.
+ * <p>
+ * Generated code checks {@link #isBatchEnabled()} or {@link #isSlowConversionEnabled()} before anything else, so
+ * while no recording enables the events no event object is allocated and nothing is timed. The event types are
+ * registered with JFR once, when this class is initialized.
+ */
+public final class GraftEvents {
+    private static final EventType BATCH = EventType.getEventType(MappingBatchEvent.class);
+    private static final EventType SLOW_CONVERSION = EventType.getEventType(SlowConversionEvent.class);
+
+    private GraftEvents() {
+    }
+
+    public static boolean isBatchEnabled() {
+        return BATCH.isEnabled();
+    }
+
+    public static boolean isSlowConversionEnabled() {
+        return SLOW_CONVERSION.isEnabled();
+    }
+
+    public static MappingBatchEvent beginBatch() {
+        MappingBatchEvent event = new MappingBatchEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void commitBatch(MappingBatchEvent event, Class<?> mapper, int count) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.mapper = mapper;
+            event.count = count;
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts timing a conversion, or returns null if the event type is not enabled.
+     */
+    public static SlowConversionEvent beginConversion() {
+        if (!isSlowConversionEnabled()) {
+            return null;
+        }
+        SlowConversionEvent event = new SlowConversionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event if the conversion took longer than the threshold; does nothing for a null event.
+     */
+    public static void commitConversion(SlowConversionEvent event, Class<?> mapper, String property) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.mapper = mapper;
+            event.property = property;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Batch call of a generated mapper: {@code mapAll}, {@code mapInto(Iterable, C)} or {@code mapAllParallel}.
+ */
+@Name("com.detornium.graft.MappingBatch")
+@Label("Mapping Batch")
+@Category({"Graft", "Mapping"})
+@Description("Batch call of a generated mapper")
+@StackTrace(false)
+public final class MappingBatchEvent extends Event {
+
+    @Label("Mapper")
+    Class<?> mapper;
+
+    @Label("Count")
+    @Description("Number of mapped elements, including nulls")
+    int count;
+}
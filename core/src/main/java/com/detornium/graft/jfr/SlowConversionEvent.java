@@ -0,0 +1,45 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Property conversion of a generated mapper that took longer than the event threshold, by default 100 µs. The
+ * threshold is a regular JFR setting, e.g. {@code com.detornium.graft.SlowConversion#threshold=1 ms}.
+ */
+@Name("com.detornium.graft.SlowConversion")
+@Label("Slow Conversion")
+@Category({"Graft", "Mapping"})
+@Description("Converter call of a generated mapper above the threshold")
+@Threshold("100 us")
+@StackTrace(false)
+public final class SlowConversionEvent extends Event {
+
+    @Label("Mapper")
+    Class<?> mapper;
+
+    @Label("Property")
+    @Description("Target property of the converted value")
+    String property;
+}
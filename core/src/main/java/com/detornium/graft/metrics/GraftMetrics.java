@@ -0,0 +1,57 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.metrics;
+
+import java.util.ServiceLoader;
+
+/**
+ * Switch and entry point of mapper metrics.
+ * <p>
+ * Metrics are enabled with {@code -D}{@value #ENABLED_PROPERTY}{@code =true}. The flag is read once, into the
+ * {@code static final} {@link #ENABLED} constant that guards every hook of the generated mappers; when it is false
+ * the JIT folds the guards and removes the hooks completely, so metered mappers run the same code as others.
+ */
+public final class GraftMetrics {
+    public static final String ENABLED_PROPERTY = "graft.metrics";
+
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private GraftMetrics() {
+    }
+
+    /**
+     * Returns the installed metrics implementation, loaded on first use.
+     */
+    public static MapperMetrics metrics() {
+        return Installed.METRICS;
+    }
+
+    /**
+     * Returns the probe of a mapper from the installed metrics implementation.
+     */
+    public static MapperProbe probe(String mapper) {
+        return metrics().probe(mapper);
+    }
+
+    // Initialized on first use
+    private static final class Installed {
+        private static final MapperMetrics METRICS = ServiceLoader
+                .load(MapperMetrics.class, GraftMetrics.class.getClassLoader())
+                .findFirst()
+                .orElseGet(StripedMapperMetrics::new);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.metrics;
+
+/**
+ * Point-in-time copy of a power-of-two histogram: bucket 0 counts zeros, bucket {@code i} the values in
+ * {@code [2^(i-1), 2^i)}.
+ *
+ * @param count   number of recorded values
+ * @param sum     sum of the recorded values
+ * @param buckets counts per bucket
+ */
+public record HistogramSnapshot(long count, long sum, long[] buckets) {
+
+    public HistogramSnapshot {
+        buckets = buckets.clone();
+    }
+
+    @Override
+    public long[] buckets() {
+        return buckets.clone();
+    }
+
+    public double mean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the given percentile, e.g. {@code percentile(99.0)};
+     * 0 if nothing was recorded.
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("percentile must be within [0, 100]: " + percentile);
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * Returns the largest value counted in the given bucket.
+     */
+    public static long upperBound(int bucket) {
+        return bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
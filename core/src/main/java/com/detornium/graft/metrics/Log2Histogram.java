@@ -0,0 +1,54 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of non-negative values in power-of-two buckets: bucket 0 counts zeros, bucket {@code i} the values
+ * in {@code [2^(i-1), 2^i)}. Every bucket and the sum are {@link LongAdder}s, so recording is lock-free and
+ * contended updates spread over cells instead of retrying one CAS.
+ */
+final class Log2Histogram {
+    static final int BUCKETS = 65;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder sum = new LongAdder();
+
+    Log2Histogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long value) {
+        long v = Math.max(value, 0L);
+        buckets[64 - Long.numberOfLeadingZeros(v)].increment();
+        sum.add(v);
+    }
+
+    // Not atomic across buckets, values recorded meanwhile may or may not be included
+    HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        return new HistogramSnapshot(count, sum.sum(), counts);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.metrics;
+
+/**
+ * Service provider interface for mapper metrics.
+ * <p>
+ * Mappers generated from {@link com.detornium.graft.annotations.Metered} specs ask for their probe once, when the
+ * mapper class is initialized, and only if metrics are enabled (see {@link GraftMetrics}). An implementation is
+ * registered in {@code META-INF/services/com.detornium.graft.metrics.MapperMetrics}; without one
+ * {@link StripedMapperMetrics} is used.
+ * <p>
+ * Probes are called on the mapping hot path from any number of threads and must be thread-safe.
+ */
+public interface MapperMetrics {
+
+    /**
+     * Returns the probe of a mapper, given by its fully qualified class name.
+     */
+    MapperProbe probe(String mapper);
+}
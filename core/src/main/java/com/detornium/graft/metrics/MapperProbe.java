@@ -0,0 +1,38 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.metrics;
+
+/**
+ * Receives the measurements of one generated mapper.
+ */
+public interface MapperProbe {
+
+    /**
+     * Records a single {@code map(S)} or {@code update(S, D)} call.
+     */
+    void recordMap(long nanos);
+
+    /**
+     * Records a batch call, e.g. {@code mapAll(...)}, of {@code size} elements.
+     */
+    void recordBatch(int size, long nanos);
+
+    /**
+     * Returns the probe timing the converter of a target property.
+     */
+    ConverterProbe converter(String property);
+}
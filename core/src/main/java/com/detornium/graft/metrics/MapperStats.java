@@ -0,0 +1,47 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.metrics;
+
+import java.util.Map;
+
+/**
+ * Metrics of one mapper, see {@link StripedMapperMetrics#snapshot()}.
+ *
+ * @param mapper     fully qualified class name of the mapper
+ * @param maps       latencies of single {@code map} and {@code mapInto} calls, in nanoseconds
+ * @param batches    latencies of batch calls, in nanoseconds
+ * @param batchSizes number of elements per batch call
+ * @param converters latencies per converted target property, in nanoseconds; empty unless converter timings
+ *                   are generated
+ */
+public record MapperStats(String mapper,
+                          HistogramSnapshot maps,
+                          HistogramSnapshot batches,
+                          HistogramSnapshot batchSizes,
+                          Map<String, HistogramSnapshot> converters) {
+
+    public MapperStats {
+        converters = Map.copyOf(converters);
+    }
+
+    /**
+     * Returns the number of mapped source objects, single calls and batch elements together.
+     */
+    public long mappedObjects() {
+        return maps.count() + batchSizes.sum();
+    }
+}
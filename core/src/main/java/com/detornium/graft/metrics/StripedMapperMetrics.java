@@ -0,0 +1,97 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.metrics;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Default {@link MapperMetrics}: invocation counts, batch sizes and latency histograms per mapper, kept in
+ * striped counters ({@link java.util.concurrent.atomic.LongAdder}). Recording never locks or allocates; probes
+ * are created once per mapper and converter, when the mapper class is initialized.
+ * <p>
+ * Read the collected metrics with {@link #snapshot()}:
+ * <pre>
+ * {@code
+ * StripedMapperMetrics metrics = (StripedMapperMetrics) GraftMetrics.metrics();
+ * metrics.snapshot().values().forEach(stats -> log.info("{}: {} calls, p99 {}ns",
+ *         stats.mapper(), stats.maps().count(), stats.maps().percentile(99.0)));
+ * }
+ * </pre>
+ */
+public final class StripedMapperMetrics implements MapperMetrics {
+
+    private final ConcurrentMap<String, Probe> probes = new ConcurrentHashMap<>();
+
+    @Override
+    public MapperProbe probe(String mapper) {
+        return probes.computeIfAbsent(mapper, Probe::new);
+    }
+
+    /**
+     * Returns the metrics of every probed mapper, by mapper class name.
+     */
+    public Map<String, MapperStats> snapshot() {
+        Map<String, MapperStats> result = new TreeMap<>();
+        probes.forEach((mapper, probe) -> result.put(mapper, probe.snapshot()));
+        return result;
+    }
+
+    /**
+     * Returns the metrics of a mapper, if it was probed.
+     */
+    public Optional<MapperStats> snapshot(String mapper) {
+        return Optional.ofNullable(probes.get(mapper)).map(Probe::snapshot);
+    }
+
+    private static final class Probe implements MapperProbe {
+        private final String mapper;
+        private final Log2Histogram maps = new Log2Histogram();
+        private final Log2Histogram batches = new Log2Histogram();
+        private final Log2Histogram batchSizes = new Log2Histogram();
+        private final ConcurrentMap<String, Log2Histogram> converters = new ConcurrentHashMap<>();
+
+        private Probe(String mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void recordMap(long nanos) {
+            maps.record(nanos);
+        }
+
+        @Override
+        public void recordBatch(int size, long nanos) {
+            batchSizes.record(size);
+            batches.record(nanos);
+        }
+
+        @Override
+        public ConverterProbe converter(String property) {
+            return converters.computeIfAbsent(property, p -> new Log2Histogram())::record;
+        }
+
+        private MapperStats snapshot() {
+            Map<String, HistogramSnapshot> converterStats = new TreeMap<>();
+            converters.forEach((property, histogram) -> converterStats.put(property, histogram.snapshot()));
+            return new MapperStats(mapper, maps.snapshot(), batches.snapshot(), batchSizes.snapshot(), converterStats);
+        }
+    }
+}
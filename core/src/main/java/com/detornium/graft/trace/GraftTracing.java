@@ -0,0 +1,69 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.trace;
+
+import java.util.ServiceLoader;
+
+/**
+ * Switch and entry point of per-property tracing.
+ * <p>
+ * Mappers compiled with the processor option {@code -Agraft.trace=true} report every mapped property to a
+ * {@link MappingTracer}, but only when the application runs with {@code -D}{@value #ENABLED_PROPERTY}{@code =true}.
+ * The flag is read once, into the {@code static final} {@link #ENABLED} constant, so without it the JIT removes the
+ * tracing branches from compiled code.
+ * <p>
+ * The tracer is registered in {@code META-INF/services/com.detornium.graft.trace.MappingTracer}, or set with
+ * {@link #setTracer(MappingTracer)}; by default properties are logged at {@code DEBUG} level to the
+ * {@value #LOGGER} {@link System.Logger}.
+ */
+public final class GraftTracing {
+    public static final String ENABLED_PROPERTY = "graft.trace";
+    public static final String LOGGER = "com.detornium.graft.trace";
+
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static volatile MappingTracer tracer;
+
+    private GraftTracing() {
+    }
+
+    /**
+     * Replaces the installed tracer, e.g. for a debugging session; null restores it.
+     */
+    public static void setTracer(MappingTracer mappingTracer) {
+        tracer = mappingTracer;
+    }
+
+    public static void trace(Class<?> mapper, String property, Object sourceValue, Object targetValue) {
+        MappingTracer current = tracer;
+        (current != null ? current : Installed.TRACER).trace(mapper, property, sourceValue, targetValue);
+    }
+
+    // Initialized on first trace
+    private static final class Installed {
+        private static final MappingTracer TRACER = ServiceLoader
+                .load(MappingTracer.class, GraftTracing.class.getClassLoader())
+                .findFirst()
+                .orElseGet(Installed::loggingTracer);
+
+        private static MappingTracer loggingTracer() {
+            System.Logger logger = System.getLogger(LOGGER);
+            return (mapper, property, sourceValue, targetValue) -> logger.log(System.Logger.Level.DEBUG,
+                    () -> "%s.%s: %s -> %s".formatted(mapper.getSimpleName(), property, sourceValue, targetValue));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.trace;
+
+/**
+ * Receives every property a traced mapper writes, see {@link GraftTracing}.
+ */
+@FunctionalInterface
+public interface MappingTracer {
+
+    /**
+     * Called after a property value is mapped and before it is written to the target.
+     *
+     * @param mapper      the generated mapper
+     * @param property    target property name
+     * @param sourceValue value read from the source (the source itself for {@code self()} mappings, the constant
+     *                    for {@code value(...)} mappings)
+     * @param targetValue value written to the target, after conversion
+     */
+    void trace(Class<?> mapper, String property, Object sourceValue, Object targetValue);
+}
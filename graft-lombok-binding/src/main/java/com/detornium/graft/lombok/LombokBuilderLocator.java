@@ -0,0 +1,59 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.lombok;
+
+import com.detornium.graft.annotations.processors.spi.BuilderLocator;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads builder method names from Lombok's {@code @Builder}. Lombok may remove the annotation once it has generated
+ * the builder, the processor then falls back to detecting the builder by shape.
+ */
+public class LombokBuilderLocator implements BuilderLocator {
+
+    private static final String BUILDER_ANNOTATION = "lombok.Builder";
+
+    @Override
+    public Optional<BuilderMethods> findBuilderMethods(TypeElement type) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (annotation.getAnnotationType().toString().equals(BUILDER_ANNOTATION)) {
+                Map<? extends ExecutableElement, ? extends AnnotationValue> values = annotation.getElementValues();
+                return Optional.of(new BuilderMethods(
+                        stringValue(values, "builderMethodName", "builder"),
+                        stringValue(values, "buildMethodName", "build"),
+                        stringValue(values, "setterPrefix", "")));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private String stringValue(Map<? extends ExecutableElement, ? extends AnnotationValue> values, String name, String defaultValue) {
+        return values.entrySet().stream()
+                .filter(e -> e.getKey().getSimpleName().contentEquals(name))
+                .map(e -> e.getValue().getValue().toString())
+                .findFirst()
+                .orElse(defaultValue);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.benchmark;
+
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+/**
+ * Delegates to an annotation processor and records the time, the bytes allocated by the compiling thread and the
+ * number of rounds it spends in {@link #init} and {@link #process}.
+ */
+public class MeasuredProcessor implements Processor {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final Processor delegate;
+
+    private long nanos;
+    private long allocatedBytes;
+    private int rounds;
+
+    public MeasuredProcessor(Processor delegate) {
+        this.delegate = delegate;
+    }
+
+    public static long threadAllocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    public String name() {
+        return delegate.getClass().getSimpleName();
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public int rounds() {
+        return rounds;
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        long startBytes = threadAllocatedBytes();
+        long start = System.nanoTime();
+        try {
+            delegate.init(processingEnv);
+        } finally {
+            nanos += System.nanoTime() - start;
+            allocatedBytes += threadAllocatedBytes() - startBytes;
+        }
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        long startBytes = threadAllocatedBytes();
+        long start = System.nanoTime();
+        try {
+            return delegate.process(annotations, roundEnv);
+        } finally {
+            nanos += System.nanoTime() - start;
+            allocatedBytes += threadAllocatedBytes() - startBytes;
+            rounds++;
+        }
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return delegate.getSupportedOptions();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return delegate.getSupportedAnnotationTypes();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return delegate.getSupportedSourceVersion();
+    }
+
+    @Override
+    public Iterable<? extends Completion> getCompletions(Element element, AnnotationMirror annotation,
+                                                         ExecutableElement member, String userText) {
+        return delegate.getCompletions(element, annotation, member, userText);
+    }
+}
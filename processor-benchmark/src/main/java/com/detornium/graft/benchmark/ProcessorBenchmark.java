@@ -0,0 +1,210 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.benchmark;
+
+import com.detornium.graft.MappingDsl;
+import com.detornium.graft.annotations.processors.MapperIndexProcessor;
+import com.detornium.graft.annotations.processors.MapperProcessor;
+
+import javax.annotation.processing.Processor;
+import javax.tools.*;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Compiles synthetic specs in-process with Lombok, {@link MapperProcessor} and {@link MapperIndexProcessor} and
+ * reports the compilation time, the time and allocation spent in {@link MapperProcessor} per spec, and its rounds.
+ * <p>
+ * Options: {@code --specs N} (default 300), {@code --properties 8,32,96}, {@code --warmup 3}, {@code --iterations 5}.
+ */
+public class ProcessorBenchmark {
+
+    public record Compilation(long nanos, long allocatedBytes, List<MeasuredProcessor> processors,
+                              List<Diagnostic<? extends JavaFileObject>> errors) {
+
+        public MeasuredProcessor processor(Class<?> type) {
+            return processors.stream()
+                    .filter(p -> p.name().equals(type.getSimpleName()))
+                    .findFirst()
+                    .orElseThrow();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        int specs = Integer.parseInt(options.getOrDefault("specs", "300"));
+        List<Integer> properties = Arrays.stream(options.getOrDefault("properties", "8,32,96").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "3"));
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "5"));
+
+        List<JavaFileObject> sources = new SyntheticSpecGenerator(properties).generate(specs);
+
+        System.out.printf("Graft processor benchmark: %d specs %s, properties %s, %d warm-up + %d measured compilations%n%n",
+                specs, Arrays.toString(SyntheticSpecGenerator.Kind.values()), properties, warmup, iterations);
+        System.out.printf("%-10s %12s %12s %12s %12s %12s %8s%n",
+                "run", "compile ms", "mapper ms", "us/spec", "mapper MB", "KB/spec", "rounds");
+
+        for (int i = 0; i < warmup; i++) {
+            report("warmup " + (i + 1), specs, compileOrFail(sources));
+        }
+
+        long compileNanos = 0;
+        long mapperNanos = 0;
+        long mapperBytes = 0;
+        int rounds = 0;
+        for (int i = 0; i < iterations; i++) {
+            Compilation compilation = compileOrFail(sources);
+            report("run " + (i + 1), specs, compilation);
+
+            MeasuredProcessor mapper = compilation.processor(MapperProcessor.class);
+            compileNanos += compilation.nanos();
+            mapperNanos += mapper.nanos();
+            mapperBytes += mapper.allocatedBytes();
+            rounds = mapper.rounds();
+        }
+
+        if (iterations > 0) {
+            System.out.printf("%-10s %12.1f %12.1f %12.1f %12.1f %12.1f %8d%n", "mean",
+                    compileNanos / 1e6 / iterations,
+                    mapperNanos / 1e6 / iterations,
+                    mapperNanos / 1e3 / iterations / specs,
+                    mapperBytes / 1048576.0 / iterations,
+                    mapperBytes / 1024.0 / iterations / specs,
+                    rounds);
+        }
+    }
+
+    /**
+     * Compiles the sources in-process on the calling thread, writing classes and generated sources to a temporary
+     * directory that is removed afterwards.
+     */
+    public static Compilation compile(List<JavaFileObject> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system Java compiler, run the benchmark on a JDK.");
+        }
+
+        Path output = Files.createTempDirectory("graft-processor-benchmark");
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, Locale.ROOT, null)) {
+            Path classes = Files.createDirectory(output.resolve("classes"));
+            Path generated = Files.createDirectory(output.resolve("generated"));
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(classes));
+            fileManager.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(generated));
+
+            List<String> options = List.of("-classpath", classpath(MappingDsl.class, lombok.Data.class));
+
+            List<MeasuredProcessor> processors = List.of(
+                    new MeasuredProcessor(lombokProcessor()),
+                    new MeasuredProcessor(new MapperProcessor()),
+                    new MeasuredProcessor(new MapperIndexProcessor()));
+
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, sources);
+            task.setProcessors(processors);
+
+            long startBytes = MeasuredProcessor.threadAllocatedBytes();
+            long start = System.nanoTime();
+            task.call();
+            long nanos = System.nanoTime() - start;
+            long allocatedBytes = MeasuredProcessor.threadAllocatedBytes() - startBytes;
+
+            List<Diagnostic<? extends JavaFileObject>> errors = diagnostics.getDiagnostics().stream()
+                    .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                    .toList();
+            return new Compilation(nanos, allocatedBytes, processors, errors);
+        } finally {
+            deleteRecursively(output);
+        }
+    }
+
+    // Lombok's processor is public but nested in a package-private class, as registered in its service file
+    private static Processor lombokProcessor() {
+        try {
+            return (Processor) Class.forName("lombok.launch.AnnotationProcessorHider$AnnotationProcessor")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Failed to create the Lombok annotation processor", ex);
+        }
+    }
+
+    private static Compilation compileOrFail(List<JavaFileObject> sources) throws IOException {
+        Compilation compilation = compile(sources);
+        if (!compilation.errors().isEmpty()) {
+            throw new IllegalStateException("Synthetic specs failed to compile: " + compilation.errors().get(0));
+        }
+        return compilation;
+    }
+
+    private static void report(String run, int specs, Compilation compilation) {
+        MeasuredProcessor mapper = compilation.processor(MapperProcessor.class);
+        System.out.printf("%-10s %12.1f %12.1f %12.1f %12.1f %12.1f %8d%n", run,
+                compilation.nanos() / 1e6,
+                mapper.nanos() / 1e6,
+                mapper.nanos() / 1e3 / specs,
+                mapper.allocatedBytes() / 1048576.0,
+                mapper.allocatedBytes() / 1024.0 / specs,
+                mapper.rounds());
+    }
+
+    // Classpath of the synthetic sources: the jars or directories the given classes were loaded from
+    private static String classpath(Class<?>... types) {
+        StringJoiner classpath = new StringJoiner(File.pathSeparator);
+        for (Class<?> type : types) {
+            try {
+                classpath.add(Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString());
+            } catch (URISyntaxException ex) {
+                throw new IllegalStateException("Failed to locate " + type.getName(), ex);
+            }
+        }
+        return classpath.toString();
+    }
+
+    // Arguments may arrive as a single string from exec:exec, e.g. "--specs 1000 --iterations 10"
+    private static Map<String, String> parseOptions(String[] args) {
+        List<String> tokens = Arrays.stream(args)
+                .flatMap(arg -> Arrays.stream(arg.trim().split("\\s+")))
+                .filter(token -> !token.isEmpty())
+                .toList();
+
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            if (!token.startsWith("--") || i + 1 >= tokens.size()) {
+                throw new IllegalArgumentException("Expected --option value, got: " + token);
+            }
+            options.put(token.substring(2), tokens.get(++i));
+        }
+        return options;
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        try (var paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
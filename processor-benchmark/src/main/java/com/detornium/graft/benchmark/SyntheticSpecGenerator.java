@@ -0,0 +1,155 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.benchmark;
+
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates synthetic models and {@code MappingDsl} specs for the processor benchmark. Specs cycle through the
+ * {@link Kind}s and the given property counts; every fourth property is an {@code int} converted to a
+ * {@code String}, every fourth a {@code List} copy, the rest are auto-mapped.
+ */
+public class SyntheticSpecGenerator {
+    public static final String PACKAGE = "bench.synthetic";
+
+    public enum Kind {
+        // Hand-written getters and setters on both sides
+        BEAN,
+        // Hand-written source bean, record target
+        RECORD,
+        // Lombok @Data on both sides, processed once Lombok has run
+        LOMBOK
+    }
+
+    private final List<Integer> propertyCounts;
+
+    public SyntheticSpecGenerator(List<Integer> propertyCounts) {
+        if (propertyCounts.isEmpty() || propertyCounts.stream().anyMatch(c -> c < 1)) {
+            throw new IllegalArgumentException("Property counts must be positive: " + propertyCounts);
+        }
+        this.propertyCounts = List.copyOf(propertyCounts);
+    }
+
+    public static Kind kindOf(int index) {
+        return Kind.values()[index % Kind.values().length];
+    }
+
+    public int propertyCountOf(int index) {
+        // Steps once per cycle of kinds, so every kind is generated with every property count
+        return propertyCounts.get((index / Kind.values().length) % propertyCounts.size());
+    }
+
+    public List<JavaFileObject> generate(int specs) {
+        List<JavaFileObject> sources = new ArrayList<>(specs * 3);
+        for (int i = 0; i < specs; i++) {
+            Kind kind = kindOf(i);
+            int properties = propertyCountOf(i);
+
+            sources.add(source("Source" + i, kind == Kind.LOMBOK ? lombokBean("Source" + i, properties, false)
+                    : bean("Source" + i, properties, false)));
+            sources.add(source("Target" + i, switch (kind) {
+                case BEAN -> bean("Target" + i, properties, true);
+                case RECORD -> record("Target" + i, properties);
+                case LOMBOK -> lombokBean("Target" + i, properties, true);
+            }));
+            sources.add(source("Spec" + i, spec(i, kind, properties)));
+        }
+        return sources;
+    }
+
+    private static String bean(String name, int properties, boolean target) {
+        StringBuilder sb = header().append("public class ").append(name).append(" {\n");
+        for (int j = 0; j < properties; j++) {
+            sb.append("    private ").append(type(j, target)).append(" p").append(j).append(";\n");
+        }
+        for (int j = 0; j < properties; j++) {
+            String type = type(j, target);
+            sb.append("\n    public ").append(type).append(" getP").append(j).append("() {\n")
+                    .append("        return p").append(j).append(";\n    }\n")
+                    .append("\n    public void setP").append(j).append("(").append(type).append(" p").append(j).append(") {\n")
+                    .append("        this.p").append(j).append(" = p").append(j).append(";\n    }\n");
+        }
+        return sb.append("}\n").toString();
+    }
+
+    private static String lombokBean(String name, int properties, boolean target) {
+        StringBuilder sb = header().append("@lombok.Data\npublic class ").append(name).append(" {\n");
+        for (int j = 0; j < properties; j++) {
+            sb.append("    private ").append(type(j, target)).append(" p").append(j).append(";\n");
+        }
+        return sb.append("}\n").toString();
+    }
+
+    private static String record(String name, int properties) {
+        StringBuilder sb = header().append("public record ").append(name).append("(");
+        for (int j = 0; j < properties; j++) {
+            sb.append(j == 0 ? "" : ", ").append(type(j, true)).append(" p").append(j);
+        }
+        return sb.append(") {\n}\n").toString();
+    }
+
+    private static String spec(int index, Kind kind, int properties) {
+        String src = "Source" + index;
+        String dst = "Target" + index;
+        StringBuilder sb = header()
+                .append("@com.detornium.graft.annotations.MappingSpec(").append(PACKAGE).append(".mappers.")
+                .append(src).append("To").append(dst).append("Mapper.class)\n")
+                .append("public class Spec").append(index).append(" extends com.detornium.graft.MappingDsl<")
+                .append(src).append(", ").append(dst).append("> {\n    {\n");
+        for (int j = 0; j < properties; j++) {
+            String setter = kind == Kind.RECORD ? "p" + j : "setP" + j;
+            switch (j % 4) {
+                case 1 -> sb.append("        map(").append(src).append("::getP").append(j)
+                        .append(").converting(String::valueOf).to(").append(dst).append("::").append(setter).append(");\n");
+                case 3 -> sb.append("        map(").append(src).append("::getP").append(j)
+                        .append(").copy().to(").append(dst).append("::").append(setter).append(");\n");
+                default -> {
+                    // auto-mapped
+                }
+            }
+        }
+        return sb.append("    }\n}\n").toString();
+    }
+
+    private static String type(int property, boolean target) {
+        return switch (property % 4) {
+            case 0 -> "String";
+            case 1 -> target ? "String" : "int";
+            case 2 -> "Long";
+            default -> "java.util.List<String>";
+        };
+    }
+
+    private static StringBuilder header() {
+        return new StringBuilder("package ").append(PACKAGE).append(";\n\n");
+    }
+
+    private static JavaFileObject source(String simpleName, String code) {
+        URI uri = URI.create("string:///" + PACKAGE.replace('.', '/') + "/" + simpleName + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
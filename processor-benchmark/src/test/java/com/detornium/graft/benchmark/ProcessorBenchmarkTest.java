@@ -0,0 +1,47 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.benchmark;
+
+import com.detornium.graft.annotations.processors.MapperIndexProcessor;
+import com.detornium.graft.annotations.processors.MapperProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProcessorBenchmarkTest {
+
+    @Test
+    void synthetic_specs_of_every_kind_compile() throws Exception {
+        int specs = SyntheticSpecGenerator.Kind.values().length * 2;
+
+        ProcessorBenchmark.Compilation compilation = ProcessorBenchmark.compile(
+                new SyntheticSpecGenerator(List.of(4, 9)).generate(specs));
+
+        assertThat(compilation.errors()).isEmpty();
+        assertThat(compilation.nanos()).isPositive();
+        assertThat(compilation.allocatedBytes()).isPositive();
+
+        MeasuredProcessor mapper = compilation.processor(MapperProcessor.class);
+        assertThat(mapper.rounds()).isGreaterThan(1);
+        assertThat(mapper.nanos()).isPositive();
+        assertThat(mapper.allocatedBytes()).isPositive();
+        assertThat(compilation.processor(MapperIndexProcessor.class).rounds()).isPositive();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.annotations.processors;
+
+import com.detornium.graft.annotations.MappingSpec;
+import com.detornium.graft.annotations.processors.generators.MapperIndexGenerator;
+import com.detornium.graft.annotations.processors.models.MappingContext;
+import com.detornium.graft.annotations.processors.utils.ProcessingUtils;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes the {@code GraftMappers} index of all mappers of a compilation. Kept apart from {@link MapperProcessor},
+ * which generates the mappers in the rounds their types become available, while the index only needs the spec
+ * declarations and is written in the first round in which all of them resolve.
+ */
+@SupportedAnnotationTypes("com.detornium.graft.annotations.MappingSpec")
+@SupportedOptions(MapperIndexProcessor.INDEX_OPTION)
+@SupportedSourceVersion(SourceVersion.RELEASE_17)
+public class MapperIndexProcessor extends AbstractProcessor {
+
+    // Fully qualified name of the generated index class
+    static final String INDEX_OPTION = "graft.index";
+
+    private Filer filer;
+    private MappingSpecReader mappingSpecReader;
+
+    private final List<MappingContext> mappingContexts = new ArrayList<>();
+    // Specs whose declarations did not resolve yet, retried in later rounds
+    private final List<Element> pending = new ArrayList<>();
+    private boolean indexWritten;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment env) {
+        super.init(env);
+
+        filer = env.getFiler();
+        mappingSpecReader = new MappingSpecReader(new ProcessingUtils(env));
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> anns, RoundEnvironment roundEnv) {
+        pending.addAll(roundEnv.getElementsAnnotatedWith(MappingSpec.class));
+
+        List<Element> unresolved = new ArrayList<>();
+        for (Element e : pending) {
+            try {
+                MappingContext mappingContext = mappingSpecReader.read(e);
+                if (indexWritten) {
+                    warning(e, "Mapping spec appeared after the mapper index was written and is not in it.");
+                } else {
+                    mappingContexts.add(mappingContext);
+                }
+            } catch (ProcessingException ignored) {
+                unresolved.add(e);
+            }
+        }
+        pending.clear();
+        pending.addAll(unresolved);
+
+        if (roundEnv.processingOver()) {
+            pending.forEach(e -> warning(e, "Mapping spec could not be resolved and is not in the mapper index."));
+        }
+
+        // Only the spec declarations are needed, so the index is written as soon as all specs seen so far resolve
+        // and is compiled together with the mappers, whichever round those are generated in. Specs that never
+        // resolve only delay it to the last round.
+        if (!indexWritten && !mappingContexts.isEmpty() && (pending.isEmpty() || roundEnv.processingOver())) {
+            indexWritten = true;
+            try {
+                MapperIndexGenerator generator = new MapperIndexGenerator(processingEnv.getElementUtils(),
+                        processingEnv.getOptions().get(INDEX_OPTION));
+                generator.generate(mappingContexts).writeTo(filer);
+                generator.getWarnings().forEach(this::warning);
+            } catch (Exception ex) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Processor failure: failed to write mapper index: " + ex.getMessage());
+            }
+        }
+
+        // MapperProcessor handles the same annotation
+        return false;
+    }
+
+    private void warning(Element e, String msg) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, msg, e);
+    }
+}
@@ -16,17 +16,17 @@
 
 package com.detornium.graft.annotations.processors;
 
-import com.detornium.graft.MappingDsl;
-import com.detornium.graft.annotations.DisableAutoMapping;
-import com.detornium.graft.annotations.IgnoreUnmapped;
 import com.detornium.graft.annotations.MappingSpec;
-import com.detornium.graft.annotations.processors.generators.DestRecordMapperGenerator;
+import com.detornium.graft.annotations.processors.generators.DestBuilderMapperGenerator;
+import com.detornium.graft.annotations.processors.generators.DestConstructorMapperGenerator;
 import com.detornium.graft.annotations.processors.generators.GetterSetterMapperGenerator;
 import com.detornium.graft.annotations.processors.generators.MapperGenerator;
 import com.detornium.graft.annotations.processors.models.*;
+import com.detornium.graft.annotations.processors.spi.BuilderLocator;
 import com.detornium.graft.annotations.processors.spi.ClassReadyCheck;
 import com.detornium.graft.annotations.processors.utils.BeanIntrospector;
 import com.detornium.graft.annotations.processors.utils.ProcessingUtils;
+import com.detornium.graft.annotations.processors.utils.TypeConversions;
 import com.sun.source.tree.*;
 import com.sun.source.util.Trees;
 
@@ -35,7 +35,6 @@ import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 import javax.tools.Diagnostic;
 import java.util.*;
@@ -47,9 +46,21 @@ import static com.detornium.graft.annotations.processors.utils.Helpers.*;
 import static com.detornium.graft.annotations.processors.utils.MappingUtils.*;
 
 @SupportedAnnotationTypes("com.detornium.graft.annotations.MappingSpec")
+@SupportedOptions({MapperProcessor.METRICS_OPTION, MapperProcessor.METRICS_CONVERTERS_OPTION, MapperProcessor.TRACE_OPTION,
+        MapperProcessor.EVENTS_OPTION})
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
 public class MapperProcessor extends AbstractProcessor {
 
+    // Meter every spec of the compilation, as if annotated with @Metered
+    static final String METRICS_OPTION = "graft.metrics";
+    static final String METRICS_CONVERTERS_OPTION = "graft.metrics.converters";
+
+    // Generate per-property MappingTracer calls into every mapper
+    static final String TRACE_OPTION = "graft.trace";
+
+    // Record JFR events in every mapper, as if annotated with @Recorded
+    static final String EVENTS_OPTION = "graft.events";
+
     // TODO: use tree for possible combinations hint
     private static final List<List<String>> ALLOWED_CALL_CHAIN = List.of(
             List.of("map", "to"),
@@ -59,13 +70,17 @@ public class MapperProcessor extends AbstractProcessor {
             List.of("self", "converting", "to"),
             List.of("value", "to"),
             List.of("self", "copy", "to"),
-            List.of("map", "copy", "to")
+            List.of("map", "copy", "to"),
+            List.of("map", "nested", "to"),
+            List.of("map", "each", "to")
     );
 
     private static final String MAP_INSTR = "map";
     private static final String VALUE_INSTR = "value";
     private static final String SELF_INSTR = "self";
     private static final String COPY_INSTR = "copy";
+    private static final String NESTED_INSTR = "nested";
+    private static final String EACH_INSTR = "each";
     private static final String CONVERTING_INSTR = "converting";
     private static final String TO_INSTR = "to";
     private static final String EXCLUDE_INSTR = "exclude";
@@ -75,6 +90,12 @@ public class MapperProcessor extends AbstractProcessor {
 
     private BeanIntrospector beanIntrospector;
     private ProcessingUtils processingUtils;
+    private TypeConversions typeConversions;
+    private MappingSpecReader mappingSpecReader;
+
+    private List<ClassReadyCheck> classReadyChecks;
+    private List<BuilderLocator> builderLocators;
+    private final Map<TypeElement, Optional<BuilderInfo>> builders = new HashMap<>();
 
     @Override
     public synchronized void init(ProcessingEnvironment env) {
@@ -85,6 +106,18 @@ public class MapperProcessor extends AbstractProcessor {
 
         beanIntrospector = new BeanIntrospector(processingEnv);
         processingUtils = new ProcessingUtils(processingEnv);
+        typeConversions = new TypeConversions(processingEnv);
+        mappingSpecReader = new MappingSpecReader(processingUtils);
+
+        // Loaded once per compilation rather than for every spec in every round
+        classReadyChecks = loadServices(ClassReadyCheck.class);
+        builderLocators = loadServices(BuilderLocator.class);
+    }
+
+    private <T> List<T> loadServices(Class<T> service) {
+        List<T> result = new ArrayList<>();
+        ServiceLoader.load(service, getClass().getClassLoader()).forEach(result::add);
+        return result;
     }
 
     private final List<MappingContext> processList = new ArrayList<>();
@@ -105,12 +138,11 @@ public class MapperProcessor extends AbstractProcessor {
             try {
                 List<Mapping> mappings = processMappings(mappingContext);
 
-                MapperGenerator mapperGenerator = isRecord(mappingContext.getTargetType())
-                        ? new DestRecordMapperGenerator()
-                        : new GetterSetterMapperGenerator();
+                MapperGenerator mapperGenerator = createGenerator(mappingContext);
 
-                mapperGenerator.generate(mappingContext.getMapperType(), mappingContext.getSourceType(), mappingContext.getTargetType(), mappings)
+                mapperGenerator.generate(mappingContext.getSpec(), mappingContext.getMapperType(), mappingContext.getSourceType(), mappingContext.getTargetType(), mappings)
                         .writeTo(filer);
+                mapperGenerator.getWarnings().forEach(w -> warning(mappingContext.getSpec(), w));
 
             } catch (ProcessingException procEx) {
                 error(procEx.getElement(), "Processor failure: " + procEx.getMessage());
@@ -134,8 +166,56 @@ public class MapperProcessor extends AbstractProcessor {
             }
         }
 
+        // Not claimed, MapperIndexProcessor reads the same specs
+        return false;
+    }
 
-        return true;
+    private MapperGenerator createGenerator(MappingContext mappingContext) throws ProcessingException {
+        TypeElement target = mappingContext.getTargetType();
+        String mapperPackage = mappingContext.getMapperType().packageName();
+
+        boolean graph = mappingContext.isGraph();
+        Metering metering = mappingContext.getMetering();
+        boolean tracing = mappingContext.isTracing();
+        boolean events = mappingContext.isEvents();
+
+        return switch (mappingContext.getTargetAccessorType()) {
+            case RECORD_FIELD -> new DestConstructorMapperGenerator(graph, metering, tracing, events,
+                    beanIntrospector.getAccessors(target, Accessor.AccessorType.RECORD_FIELD));
+            case CONSTRUCTOR_PARAMETER -> new DestConstructorMapperGenerator(graph, metering, tracing, events,
+                    beanIntrospector.getConstructorAccessors(target, mapperPackage));
+            case BUILDER_METHOD -> new DestBuilderMapperGenerator(graph, metering, tracing, events, findBuilder(target)
+                    .orElseThrow(() -> new ProcessingException(mappingContext.getSpec(), "Failed to resolve builder of target type.")));
+            default -> new GetterSetterMapperGenerator(graph, metering, tracing, events);
+        };
+    }
+
+    // Records and immutable classes with a mapping constructor are created with a single constructor call,
+    // immutable classes without one through their builder, e.g. Lombok @Value @Builder classes mapped from
+    // another package
+    private Accessor.AccessorType targetAccessorType(TypeElement target, String mapperPackage) {
+        if (isRecord(target)) {
+            return Accessor.AccessorType.RECORD_FIELD;
+        }
+        if (beanIntrospector.findMappingConstructor(target, mapperPackage).isPresent()) {
+            return Accessor.AccessorType.CONSTRUCTOR_PARAMETER;
+        }
+        return findBuilder(target).isPresent()
+                ? Accessor.AccessorType.BUILDER_METHOD
+                : Accessor.AccessorType.SETTER;
+    }
+
+    private Optional<BuilderInfo> findBuilder(TypeElement target) {
+        return builders.computeIfAbsent(target, t -> {
+            for (BuilderLocator locator : builderLocators) {
+                Optional<BuilderLocator.BuilderMethods> names = locator.findBuilderMethods(t);
+                if (names.isPresent()) {
+                    return beanIntrospector.findBuilder(t, names.get());
+                }
+            }
+
+            return beanIntrospector.findBuilder(t, null);
+        });
     }
 
     private List<MappingContext> findClassesToProcess(RoundEnvironment roundEnv) {
@@ -143,7 +223,13 @@ public class MapperProcessor extends AbstractProcessor {
 
         for (Element e : roundEnv.getElementsAnnotatedWith(MappingSpec.class)) {
             try {
-                result.add(analyzeAnnotatedElement(e));
+                MappingContext mappingContext = mappingSpecReader.read(e);
+                mappingContext.setMetering(Metering.of(
+                        mappingContext.getMetering().isMetered() || isOptionSet(METRICS_OPTION),
+                        mappingContext.getMetering() == Metering.CONVERTERS || isOptionSet(METRICS_CONVERTERS_OPTION)));
+                mappingContext.setTracing(isOptionSet(TRACE_OPTION));
+                mappingContext.setEvents(mappingContext.isEvents() || isOptionSet(EVENTS_OPTION));
+                result.add(mappingContext);
             } catch (ProcessingException procEx) {
                 error(procEx.getElement(), "Processor failure: " + procEx.getMessage());
             }
@@ -152,48 +238,13 @@ public class MapperProcessor extends AbstractProcessor {
         return result;
     }
 
-    private MappingContext analyzeAnnotatedElement(Element e) throws ProcessingException {
-        if (!(e instanceof TypeElement spec)) {
-            throw new ProcessingException(e, "@%s can only be applied to classes.".formatted(MappingSpec.class.getSimpleName()));
-        }
-
-        MappingSpec meta = spec.getAnnotation(MappingSpec.class);
-
-        DeclaredType st = findSuperclass(spec, MappingDsl.class, 2)
-                .orElseThrow(() -> new ProcessingException(spec, "Class must extend MappingDsl<S,D>."));
-
-        TypeElement src = declaredTypeMirrorToTypeElement(st.getTypeArguments().get(0))
-                .orElseThrow(() -> new ProcessingException(spec, "Failed to resolve source type S."));
-
-        TypeElement target = declaredTypeMirrorToTypeElement(st.getTypeArguments().get(1))
-                .orElseThrow(() -> new ProcessingException(spec, "Failed to resolve target type D."));
-
-        Fqcn mapperFqcn = getAnnotationClassValue(
-                meta,
-                MappingSpec::value,
-                c -> Optional.<Fqcn>empty(), // error target class already exists
-                tm -> processingUtils.resolveTypeFqcn(tm, spec))
-                .orElseThrow(() -> new ProcessingException(spec, "Failed to resolve mapper class from @MappingSpec."));
-
-        boolean ignoreUnmapped = spec.getAnnotation(IgnoreUnmapped.class) != null;
-        boolean disableAutoMapping = spec.getAnnotation(DisableAutoMapping.class) != null;
-
-        return MappingContext.builder()
-                .spec(spec)
-                .mapperType(mapperFqcn)
-                .sourceType(src)
-                .targetType(target)
-                .ignoreUnmapped(ignoreUnmapped)
-                .disableAutoMapping(disableAutoMapping)
-                .processed(false)
-                .build();
+    private boolean isOptionSet(String option) {
+        return Boolean.parseBoolean(processingEnv.getOptions().get(option));
     }
 
     private boolean checkIfTypesAreAvailable(TypeElement... types) {
-        ServiceLoader<ClassReadyCheck> serviceLoader = ServiceLoader.load(ClassReadyCheck.class, getClass().getClassLoader());
-
         for (TypeElement type : types) {
-            for (ClassReadyCheck check : serviceLoader) {
+            for (ClassReadyCheck check : classReadyChecks) {
                 if (!check.isClassReady(type.asType())) {
                     return false;
                 }
@@ -208,32 +259,201 @@ public class MapperProcessor extends AbstractProcessor {
         TypeElement source = mappingContext.getSourceType();
         TypeElement target = mappingContext.getTargetType();
 
+        // Properties without a getter or setter are read or written directly through fields the mapper can access
+        String mapperPackage = mappingContext.getMapperType().packageName();
+
         List<Accessor> getters = isRecord(source)
                 ? beanIntrospector.getAccessors(source, Accessor.AccessorType.RECORD_FIELD)
-                : beanIntrospector.getAccessors(source, Accessor.AccessorType.GETTER);
-
-        List<Accessor> setters = isRecord(target)
-                ? beanIntrospector.getAccessors(target, Accessor.AccessorType.RECORD_FIELD)
-                : beanIntrospector.getAccessors(target, Accessor.AccessorType.SETTER);
+                : beanIntrospector.getReadAccessors(source, mapperPackage);
+
+        Accessor.AccessorType targetAccessorType = targetAccessorType(target, mapperPackage);
+        mappingContext.setTargetAccessorType(targetAccessorType);
+        List<Accessor> setters = switch (targetAccessorType) {
+            case SETTER -> beanIntrospector.getWriteAccessors(target, mapperPackage);
+            case CONSTRUCTOR_PARAMETER -> beanIntrospector.getConstructorAccessors(target, mapperPackage);
+            case BUILDER_METHOD -> findBuilder(target).map(BuilderInfo::properties).orElse(List.of());
+            default -> beanIntrospector.getAccessors(target, targetAccessorType);
+        };
 
-        List<Mapping> mappings = parseMappingsFromInitializers(spec, source, target);
+        List<Mapping> mappings = parseMappingsFromInitializers(spec, source, targetAccessorType);
+        if (targetAccessorType == Accessor.AccessorType.CONSTRUCTOR_PARAMETER
+                || targetAccessorType == Accessor.AccessorType.BUILDER_METHOD) {
+            assignTargetProperties(spec, mappings, setters);
+        }
         List<Mapping> autoMappings = mappingContext.isDisableAutoMapping()
                 ? List.of()
-                : createAutoMappings(getters, setters);
+                : createAutoMappings(getters, setters,
+                (from, to) -> typeConversions.isAutoConvertible(from, to) || findNestedMapper(from, to).isPresent());
         List<Mapping> allMappings = mergeMappings(mappings, autoMappings);
+        assignUnboxingDefaults(allMappings, mappingContext.getUnboxingDefaults());
+        assignNestedMappers(mappingContext, allMappings);
+        assignElementMappings(mappingContext, allMappings);
+        assignNullness(source, allMappings);
 
         List<String> unmapped = findUnmappedFields(allMappings, setters);
         if (!mappingContext.isIgnoreUnmapped() && !unmapped.isEmpty()) {
             throw new ProcessingException(spec, "Some target fields are not mapped: " + String.join(", ", unmapped));
         }
 
+        // Setters are not called after the mapping constructor, so a mutable target without a no-args constructor
+        // would silently lose the properties only its setters write
+        if (targetAccessorType == Accessor.AccessorType.CONSTRUCTOR_PARAMETER && !mappingContext.isIgnoreUnmapped()) {
+            List<String> setterOnly = findUnmappedFields(allMappings,
+                    beanIntrospector.getAccessors(target, Accessor.AccessorType.SETTER));
+            if (!setterOnly.isEmpty()) {
+                throw new ProcessingException(spec, ("Target properties with a setter are not parameters of the "
+                        + "mapping constructor and would not be mapped: %s. Add a no-args constructor or a constructor "
+                        + "taking them, or use @IgnoreUnmapped.").formatted(String.join(", ", setterOnly)));
+            }
+        }
+
         return allMappings;
     }
 
-    private List<Mapping> parseMappingsFromInitializers(TypeElement spec, TypeElement src, TypeElement dst) throws ProcessingException {
+    // Explicit mappings name the target property through its getter; the constructor parameter or builder method
+    // gives its type
+    private void assignTargetProperties(TypeElement spec, List<Mapping> mappings, List<Accessor> parameters) throws ProcessingException {
+        Map<String, Accessor> parametersByName = parameters.stream()
+                .collect(Collectors.toMap(Accessor::getName, p -> p, (a, b) -> a));
+
+        for (Mapping mapping : mappings) {
+            if (mapping.getSetter() == null) {
+                continue;
+            }
+
+            String name = mapping.getSetter().getName();
+            Accessor parameter = parametersByName.get(name);
+            if (parameter == null) {
+                throw new ProcessingException(spec, "Property '%s' cannot be set through the mapping constructor or builder."
+                        .formatted(name));
+            }
+            mapping.setSetter(parameter);
+        }
+    }
+
+    // Null checks on values that cannot be null are left out of the generated code
+    private void assignNullness(TypeElement source, List<Mapping> mappings) {
+        for (Mapping mapping : mappings) {
+            if (mapping.getConstant() != null) {
+                continue;
+            }
+            mapping.setSourceNonNull(mapping.getGetter() == null // src itself, already checked
+                    || beanIntrospector.isNonNull(source, mapping.getGetter()));
+        }
+    }
+
+    // Properties of different types are mapped with the generated mapper of another spec, when there is one
+    private void assignNestedMappers(MappingContext mappingContext, List<Mapping> mappings) throws ProcessingException {
+        TypeElement spec = mappingContext.getSpec();
+        TypeElement source = mappingContext.getSourceType();
+
+        for (Mapping mapping : mappings) {
+            if (mapping.isExclude() || mapping.getSetter() == null || mapping.getConstant() != null
+                    || mapping.getConverter() != null || mapping.isCopy() || mapping.getElements() != null) {
+                continue;
+            }
+
+            TypeMirror from = mapping.getGetter() == null ? source.asType() : mapping.getGetter().getValueType();
+            TypeMirror to = mapping.getSetter().getValueType();
+
+            if (!mapping.isNested() && typeConversions.isAutoConvertible(from, to)) {
+                continue;
+            }
+
+            Optional<MappingContext> nestedContext = findNestedMappingContext(from, to);
+            if (nestedContext.isPresent()) {
+                mapping.setNestedMapper(nestedContext.get().getMapperType());
+                mapping.setNestedGraph(mappingContext.isGraph() && nestedContext.get().isGraph());
+            } else if (mapping.isNested()) {
+                throw new ProcessingException(spec, "No mapping spec found for nested mapping %s -> %s of '%s'."
+                        .formatted(from, to, mapping.getSetter().getName()));
+            }
+        }
+    }
+
+    // Resolves element (and key) types of each(...) mappings and the generated mappers for them
+    private void assignElementMappings(MappingContext mappingContext, List<Mapping> mappings) throws ProcessingException {
+        TypeElement spec = mappingContext.getSpec();
+
+        for (Mapping mapping : mappings) {
+            if (mapping.getElements() == null || mapping.isExclude() || mapping.getSetter() == null) {
+                continue;
+            }
+
+            TypeMirror from = mapping.getGetter().getValueType();
+            TypeMirror to = mapping.getSetter().getValueType();
+            Class<?> container = mapping.getKeys() != null ? Map.class : Collection.class;
+
+            List<TypeMirror> fromArgs = typeConversions.supertypeArguments(from, container)
+                    .orElseThrow(() -> new ProcessingException(spec, "each() requires a parameterized %s source, got %s."
+                            .formatted(container.getSimpleName(), from)));
+            List<TypeMirror> toArgs = typeConversions.supertypeArguments(to, container)
+                    .orElseThrow(() -> new ProcessingException(spec, "each() requires a parameterized %s target for '%s', got %s."
+                            .formatted(container.getSimpleName(), mapping.getSetter().getName(), to)));
+            checkElementContainer(spec, mapping, to);
+
+            if (mapping.getKeys() != null) {
+                resolveElementMapping(mappingContext, mapping, mapping.getKeys(), fromArgs.get(0), toArgs.get(0));
+                resolveElementMapping(mappingContext, mapping, mapping.getElements(), fromArgs.get(1), toArgs.get(1));
+            } else {
+                resolveElementMapping(mappingContext, mapping, mapping.getElements(), fromArgs.get(0), toArgs.get(0));
+            }
+        }
+    }
+
+    // each() creates the target container: the declared class, or the default implementation of an interface
+    private void checkElementContainer(TypeElement spec, Mapping mapping, TypeMirror type) throws ProcessingException {
+        TypeElement container = declaredTypeMirrorToTypeElement(type)
+                .orElseThrow(() -> new ProcessingException(spec, "each() requires a declared target type, got %s."
+                        .formatted(type)));
+
+        if (findSuperclass(container, EnumMap.class, null).isPresent()) {
+            throw new ProcessingException(spec, ("each() cannot create the EnumMap target of '%s', it needs the key "
+                    + "class. Use a converter for the whole map instead.").formatted(mapping.getSetter().getName()));
+        }
+        if (isAbstract(container) && findDefaultImplementation(container).isEmpty()) {
+            throw new ProcessingException(spec, ("each() has no default implementation for the %s target of '%s'. "
+                    + "Declare a concrete type.").formatted(type, mapping.getSetter().getName()));
+        }
+    }
+
+    private void resolveElementMapping(MappingContext mappingContext, Mapping mapping, ElementMapping elementMapping,
+                                       TypeMirror from, TypeMirror to) throws ProcessingException {
+        elementMapping.setSourceType(from);
+        elementMapping.setTargetType(to);
+
+        if (elementMapping.getConverter() != null || processingEnv.getTypeUtils().isSameType(from, to)) {
+            return;
+        }
+
+        MappingContext nestedContext = findNestedMappingContext(from, to)
+                .orElseThrow(() -> new ProcessingException(mappingContext.getSpec(), "No converter or mapping spec found for elements %s -> %s of '%s'."
+                        .formatted(from, to, mapping.getSetter().getName())));
+        elementMapping.setNestedMapper(nestedContext.getMapperType());
+        elementMapping.setNestedGraph(mappingContext.isGraph() && nestedContext.isGraph());
+    }
+
+    private Optional<Fqcn> findNestedMapper(TypeMirror from, TypeMirror to) {
+        return findNestedMappingContext(from, to).map(MappingContext::getMapperType);
+    }
+
+    private Optional<MappingContext> findNestedMappingContext(TypeMirror from, TypeMirror to) {
+        Optional<TypeElement> fromElement = declaredTypeMirrorToTypeElement(from);
+        Optional<TypeElement> toElement = declaredTypeMirrorToTypeElement(to);
+        if (fromElement.isEmpty() || toElement.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return processList.stream()
+                .filter(m -> m.getSourceType().equals(fromElement.get()) && m.getTargetType().equals(toElement.get()))
+                .findFirst();
+    }
+
+    private List<Mapping> parseMappingsFromInitializers(TypeElement spec, TypeElement src,
+                                                        Accessor.AccessorType dstAccessorType) throws ProcessingException {
         Function<ExpressionStatementTree, Mapping> expressionHandler = est -> {
             try {
-                return handleExpression(spec, est.getExpression(), src, dst);
+                return handleExpression(spec, est.getExpression(), src, dstAccessorType);
             } catch (ProcessingException e) {
                 error(spec, e.getTree(), e.getMessage());
                 return null;
@@ -259,7 +479,8 @@ public class MapperProcessor extends AbstractProcessor {
         return mappings;
     }
 
-    private Mapping handleExpression(TypeElement spec, ExpressionTree expr, TypeElement src, TypeElement dst) throws ProcessingException {
+    private Mapping handleExpression(TypeElement spec, ExpressionTree expr, TypeElement src,
+                                     Accessor.AccessorType dstAccessorType) throws ProcessingException {
         if (!(expr instanceof MethodInvocationTree)) {
             throw new ProcessingException(expr, "Mapping specification must be a method call chain.");
         }
@@ -297,13 +518,43 @@ public class MapperProcessor extends AbstractProcessor {
                             ? src.asType()
                             : mapping.getGetter().getValueType();
 
-                    if (!isCloneable(srcPropertyType) && !isMap(srcPropertyType)
-                            && !isCollection(srcPropertyType) && !isArray(srcPropertyType)) {
+                    if (!beanIntrospector.isCloneable(srcPropertyType) && !beanIntrospector.isMap(srcPropertyType)
+                            && !beanIntrospector.isCollection(srcPropertyType) && !isArray(srcPropertyType)) {
                         throw new ProcessingException(expr, "Cloning is only supported for Cloneable, Map, Collection or array types.");
                     }
 
                     mapping.setCopy(true);
                 }
+                case NESTED_INSTR -> {
+                    mapping.setNested(true);
+                }
+                case EACH_INSTR -> {
+                    TypeMirror srcPropertyType = mapping.getGetter().getValueType();
+                    boolean map = beanIntrospector.isMap(srcPropertyType);
+                    if (!map && !beanIntrospector.isCollection(srcPropertyType)) {
+                        throw new ProcessingException(expr, "each() is only supported for Collection or Map types.");
+                    }
+
+                    List<MemberRefInfo> converters = new ArrayList<>();
+                    for (ExpressionTree argument : call.arguments()) {
+                        converters.add(processingUtils.resolveMemberRef(spec, argument)
+                                .orElseThrow(() -> new ProcessingException(argument, "Should be a method reference.")));
+                    }
+
+                    if (converters.size() == 2 && !map) {
+                        throw new ProcessingException(expr, "Key and value converters are only supported for Map types.");
+                    }
+
+                    ElementMapping elements = new ElementMapping();
+                    elements.setConverter(converters.isEmpty() ? null : converters.get(converters.size() - 1));
+                    mapping.setElements(elements);
+
+                    if (map) {
+                        ElementMapping keys = new ElementMapping();
+                        keys.setConverter(converters.size() == 2 ? converters.get(0) : null);
+                        mapping.setKeys(keys);
+                    }
+                }
                 case CONVERTING_INSTR -> {
                     MemberRefInfo memberRefInfo = processingUtils.resolveMemberRef(spec, call.argument(0))
                             .orElseThrow(() -> new ProcessingException(call.argument(0), "Should be a method reference."));
@@ -316,7 +567,7 @@ public class MapperProcessor extends AbstractProcessor {
 
                     // TODO: check MemberRefInfo::qualifierType for records
                     ExecutableElement executableElement = memberRefInfo.element();
-                    Accessor setter = resolveSetter(executableElement, dst);
+                    Accessor setter = resolveSetter(executableElement, dstAccessorType);
                     mapping.setSetter(setter);
                 }
                 case EXCLUDE_INSTR -> {
@@ -327,7 +578,7 @@ public class MapperProcessor extends AbstractProcessor {
 
                     ExecutableElement executableElement = memberRefInfo.element();
 
-                    Accessor setter = resolveSetter(executableElement, dst);
+                    Accessor setter = resolveSetter(executableElement, dstAccessorType);
                     mapping.setSetter(setter);
                     mapping.setExclude(true);
                 }
@@ -348,11 +599,7 @@ public class MapperProcessor extends AbstractProcessor {
         return beanIntrospector.getAccessor(executableElement, accessorType);
     }
 
-    private Accessor resolveSetter(ExecutableElement executableElement, TypeElement type) {
-        Accessor.AccessorType accessorType = isRecord(type)
-                ? Accessor.AccessorType.RECORD_FIELD
-                : Accessor.AccessorType.SETTER;
-
+    private Accessor resolveSetter(ExecutableElement executableElement, Accessor.AccessorType accessorType) {
         return beanIntrospector.getAccessor(executableElement, accessorType);
     }
 
@@ -391,6 +638,10 @@ public class MapperProcessor extends AbstractProcessor {
                 .anyMatch(allowed -> allowed.equals(callNames));
     }
 
+    private void warning(Element e, String msg) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, msg, e);
+    }
+
     private void error(Element e, String msg) {
         processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, msg, e);
     }
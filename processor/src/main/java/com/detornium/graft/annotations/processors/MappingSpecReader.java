@@ -0,0 +1,95 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.annotations.processors;
+
+import com.detornium.graft.MappingDsl;
+import com.detornium.graft.annotations.DisableAutoMapping;
+import com.detornium.graft.annotations.GraphMapping;
+import com.detornium.graft.annotations.IgnoreUnmapped;
+import com.detornium.graft.annotations.MappingSpec;
+import com.detornium.graft.annotations.Metered;
+import com.detornium.graft.annotations.Recorded;
+import com.detornium.graft.annotations.UnboxingDefaults;
+import com.detornium.graft.annotations.processors.models.Fqcn;
+import com.detornium.graft.annotations.processors.models.MappingContext;
+import com.detornium.graft.annotations.processors.models.Metering;
+import com.detornium.graft.annotations.processors.utils.ProcessingUtils;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import java.util.Optional;
+
+import static com.detornium.graft.annotations.processors.utils.Helpers.*;
+
+/**
+ * Reads the mapper, source and target types of a {@link MappingSpec} class. Shared by the mapper processor and the
+ * mapper index processor, which both only need the spec declaration itself.
+ */
+class MappingSpecReader {
+    private final ProcessingUtils processingUtils;
+
+    MappingSpecReader(ProcessingUtils processingUtils) {
+        this.processingUtils = processingUtils;
+    }
+
+    MappingContext read(Element e) throws ProcessingException {
+        if (!(e instanceof TypeElement spec)) {
+            throw new ProcessingException(e, "@%s can only be applied to classes.".formatted(MappingSpec.class.getSimpleName()));
+        }
+
+        MappingSpec meta = spec.getAnnotation(MappingSpec.class);
+
+        DeclaredType st = findSuperclass(spec, MappingDsl.class, 2)
+                .orElseThrow(() -> new ProcessingException(spec, "Class must extend MappingDsl<S,D>."));
+
+        TypeElement src = declaredTypeMirrorToTypeElement(st.getTypeArguments().get(0))
+                .orElseThrow(() -> new ProcessingException(spec, "Failed to resolve source type S."));
+
+        TypeElement target = declaredTypeMirrorToTypeElement(st.getTypeArguments().get(1))
+                .orElseThrow(() -> new ProcessingException(spec, "Failed to resolve target type D."));
+
+        Fqcn mapperFqcn = getAnnotationClassValue(
+                meta,
+                MappingSpec::value,
+                c -> Optional.<Fqcn>empty(), // error target class already exists
+                tm -> processingUtils.resolveTypeFqcn(tm, spec))
+                .orElseThrow(() -> new ProcessingException(spec, "Failed to resolve mapper class from @MappingSpec."));
+
+        boolean ignoreUnmapped = spec.getAnnotation(IgnoreUnmapped.class) != null;
+        boolean disableAutoMapping = spec.getAnnotation(DisableAutoMapping.class) != null;
+        UnboxingDefaults unboxingDefaults = spec.getAnnotation(UnboxingDefaults.class);
+        boolean graph = spec.getAnnotation(GraphMapping.class) != null;
+        Metered metered = spec.getAnnotation(Metered.class);
+        boolean events = spec.getAnnotation(Recorded.class) != null;
+
+        return MappingContext.builder()
+                .spec(spec)
+                .mapperType(mapperFqcn)
+                .sourceType(src)
+                .targetType(target)
+                .ignoreUnmapped(ignoreUnmapped)
+                .disableAutoMapping(disableAutoMapping)
+                .unboxingDefaults(unboxingDefaults)
+                .graph(graph)
+                .metering(metered == null ? Metering.OFF : Metering.of(true, metered.converters()))
+                .events(events)
+                .processed(false)
+                .build();
+    }
+}
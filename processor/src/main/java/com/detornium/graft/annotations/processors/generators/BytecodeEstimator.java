@@ -0,0 +1,131 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.annotations.processors.generators;
+
+import com.detornium.graft.annotations.processors.models.Accessor;
+import com.detornium.graft.annotations.processors.models.Mapping;
+import com.squareup.javapoet.TypeName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rough bytecode size estimates of generated mapping code, used to keep generated methods within HotSpot's JIT
+ * limits. Estimates err on the large side: each property costs its loads and invocations, plus a flat amount for
+ * copies, converters, null checks and nested mappers.
+ */
+class BytecodeEstimator {
+
+    // HotSpot -XX:FreqInlineSize default on x64 and AArch64: larger hot methods are not inlined into callers
+    static final int FREQ_INLINE_SIZE = 325;
+
+    // HotSpot -XX:HugeMethodLimit: larger methods are never JIT compiled and always run interpreted
+    static final int HUGE_METHOD_LIMIT = 8000;
+
+    // Invoking a chunk method from the body: load src, dst (and ctx), invoke
+    static final int CHUNK_CALL_SIZE = 7;
+
+    private static final int LOAD = 1;
+    private static final int INVOKE = 3;
+    private static final int NULL_CHECK = 8; // ifnull, goto, aconst_null and the reloaded value
+    private static final int CONVERTER = 10;
+    private static final int COPY = 6 + NULL_CHECK;
+    private static final int LOCAL = 3;      // astore of a local read more than once
+    private static final int TIMED_CONVERSION = 30; // SlowConversionEvent begin and commit, converter probe timing
+    private static final int TRACE = 24;     // source and mapped value locals, GraftTracing check and call
+
+    private BytecodeEstimator() {
+    }
+
+    // Reading the value and passing it to a setter, constructor or builder. Tracing and timing branches count
+    // although the JIT folds them, inlining decisions are made on bytecode size.
+    static int estimate(Mapping mapping, boolean traced, boolean timed) {
+        int size = LOAD + INVOKE + (traced ? TRACE : 0);
+
+        Accessor getter = mapping.getGetter();
+        if (mapping.getConstant() != null) {
+            size += INVOKE;
+        } else if (getter != null) {
+            size += LOAD + INVOKE;
+        } else {
+            size += LOAD;
+        }
+
+        if (mapping.isCopy()) {
+            size += COPY - (mapping.isSourceNonNull() ? NULL_CHECK : 0);
+        }
+        if (mapping.getConverter() != null) {
+            size += CONVERTER + (timed ? LOCAL + LOAD + TIMED_CONVERSION : 0);
+        }
+        if (mapping.getElements() != null) {
+            size += LOAD + INVOKE;
+        }
+        if (mapping.getNestedMapper() != null) {
+            size += 2 * INVOKE + (mapping.isNestedGraph() ? LOAD : 0);
+        }
+        if (getter != null && !mapping.isSourceNonNull()
+                && !TypeName.get(getter.getValueType()).equals(TypeName.get(mapping.getSetter().getValueType()))) {
+            size += NULL_CHECK;
+        }
+
+        return size;
+    }
+
+    static int estimate(List<Mapping> mappings, boolean traced, boolean timed) {
+        return mappings.stream()
+                .mapToInt(m -> estimate(m, traced, timed))
+                .sum();
+    }
+
+    /**
+     * Splits groups of mappings into consecutive chunks of at most {@link #FREQ_INLINE_SIZE} estimated bytes. Groups
+     * are not split, as they share a local; a group larger than the limit gets a chunk of its own.
+     */
+    static List<List<List<Mapping>>> chunk(List<List<Mapping>> groups, boolean traced, boolean timed) {
+        List<List<List<Mapping>>> chunks = new ArrayList<>();
+        List<List<Mapping>> chunk = new ArrayList<>();
+        int chunkSize = 0;
+
+        for (List<Mapping> group : groups) {
+            int size = estimate(group, traced, timed) + (group.size() > 1 ? LOCAL : 0);
+            if (!chunk.isEmpty() && chunkSize + size > FREQ_INLINE_SIZE) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkSize = 0;
+            }
+            chunk.add(group);
+            chunkSize += size;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+
+        return chunks;
+    }
+
+    static String notInlinableWarning(String method, int size) {
+        return ("Generated %s is estimated at %d bytes of bytecode, above HotSpot's FreqInlineSize (%d), so it will "
+                + "not be inlined. Its properties share a source value and cannot be split into smaller methods.")
+                .formatted(method, size, FREQ_INLINE_SIZE);
+    }
+
+    static String hugeMethodWarning(String method, int size) {
+        return ("Generated %s is estimated at %d bytes of bytecode, above HotSpot's HugeMethodLimit (%d), "
+                + "so it will not be JIT compiled.").formatted(method, size, HUGE_METHOD_LIMIT);
+    }
+}
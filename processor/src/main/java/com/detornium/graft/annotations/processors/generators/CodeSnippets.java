@@ -25,10 +25,16 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.*;
 import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
 class CodeSnippets {
+    // e.g. src, src.getOwner(), src.getOwner().getName()
+    private static final Pattern SIMPLE_RECEIVER = Pattern.compile("[A-Za-z_$][\\w$]*(\\.[A-Za-z_$][\\w$]*(\\(\\))?)*");
+
     public static CodeBlock methodRefCode(MemberRefInfo info) {
         TypeMirror qual = info.qualifierType();
 
@@ -105,6 +111,50 @@ class CodeSnippets {
         return CodeBlock.of("($L) -> " + call, params);
     }
 
+    /**
+     * Builds a direct call equivalent to applying a single-argument method reference to {@code arg}:
+     * {@code Type.m(arg)} for static methods, {@code arg.m()} for unbound instance methods and
+     * {@code new Type(arg)} for constructors. Returns empty when the reference can only be expressed
+     * as a functional object (bound receivers, array constructors, varargs).
+     */
+    public static Optional<CodeBlock> directInvocationCode(MemberRefInfo info, TypeName argType, CodeBlock arg) {
+        ExecutableElement el = info.element();
+        if (el == null || el.isVarArgs() || !(el.getEnclosingElement() instanceof TypeElement owner)) {
+            return Optional.empty();
+        }
+
+        boolean isStatic = el.getModifiers().contains(Modifier.STATIC);
+        List<? extends VariableElement> params = el.getParameters();
+
+        if (info.constructorRef() && params.size() == 1) {
+            String diamond = owner.getTypeParameters().isEmpty() ? "" : "<>";
+            return Optional.of(CodeBlock.of("new $T$L($L)", ClassName.get(owner), diamond,
+                    argumentCode(params.get(0).asType(), argType, arg)));
+        }
+
+        if (isStatic && params.size() == 1) {
+            return Optional.of(CodeBlock.of("$T.$L($L)", ClassName.get(owner), el.getSimpleName(),
+                    argumentCode(params.get(0).asType(), argType, arg)));
+        }
+
+        // unbound instance method, the converted value is the receiver
+        if (!isStatic && !info.constructorRef() && params.isEmpty() && !argType.isPrimitive()) {
+            String receiver = SIMPLE_RECEIVER.matcher(arg.toString()).matches() ? "$L" : "($L)";
+            return Optional.of(CodeBlock.of(receiver + ".$L()", arg, el.getSimpleName()));
+        }
+
+        return Optional.empty();
+    }
+
+    // The method reference was resolved against the boxed converter argument type; a primitive value is
+    // boxed explicitly only when the chosen parameter is not primitive, so the same overload is selected.
+    private static CodeBlock argumentCode(TypeMirror paramType, TypeName argType, CodeBlock arg) {
+        if (argType.isPrimitive() && !paramType.getKind().isPrimitive()) {
+            return CodeBlock.of("($T) $L", argType.box(), arg);
+        }
+        return arg;
+    }
+
     public static CodeBlock returnNullIfNullCode(String varName) {
         return CodeBlock.builder()
                 .beginControlFlow("if ($L == null)", varName)
@@ -0,0 +1,179 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.annotations.processors.generators;
+
+import com.detornium.graft.GraphContext;
+import com.detornium.graft.GraphMapper;
+import com.detornium.graft.Mapper;
+import com.detornium.graft.annotations.processors.models.*;
+import com.squareup.javapoet.*;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.detornium.graft.annotations.processors.generators.CodeSnippets.returnNullIfNullCode;
+
+/**
+ * Generates mappers for immutable targets created through their builder, e.g. Lombok {@code @Value @Builder}
+ * classes: a single chained {@code builder().prop(value)...build()} call. Excluded and unmapped properties are
+ * left to the builder defaults.
+ */
+public class DestBuilderMapperGenerator extends MapperGeneratorBase {
+
+    private final BuilderInfo builder;
+
+    public DestBuilderMapperGenerator(boolean graph, Metering metering, boolean tracing, boolean events,
+                                      BuilderInfo builder) {
+        super(graph, metering, tracing, events);
+        this.builder = builder;
+    }
+
+    @Override
+    public GeneratorResult generate(TypeElement spec, Fqcn fqcn,
+                                    TypeElement src, TypeElement dst,
+                                    List<Mapping> mappings) {
+
+        ClassName srcType = ClassName.get(src);
+        ClassName dstType = ClassName.get(dst);
+        ClassName mapperType = ClassName.get(fqcn.packageName(), fqcn.className());
+
+        List<FieldSpec> fields = new ArrayList<>();
+        List<MethodSpec> methods = new ArrayList<>();
+
+        Map<String, Mapping> mappingMap = mappings.stream()
+                .collect(Collectors.toMap(m -> m.getSetter().getName(), m -> m));
+        SourceValueLocals locals = new SourceValueLocals(mappings);
+
+        MethodSpec.Builder mapMethod = MethodSpec.methodBuilder(graph ? "map" : "mapNonNull")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(Override.class)
+                .returns(dstType)
+                .addParameter(srcType, "src");
+
+        if (graph) {
+            // Like constructor targets, the target only exists once the builder is done
+            mapMethod.addParameter(GraphContext.class, "ctx")
+                    .addCode(returnNullIfNullCode("src"))
+                    .addCode(graphLookupCode(dstType))
+                    .addStatement("ctx.reserve(src, $T.class)", dstType);
+        }
+
+        CodeBlock.Builder chain = CodeBlock.builder()
+                .add("$T.$N()", dstType, builder.factoryMethod())
+                .indent();
+
+        for (Accessor property : builder.properties()) {
+            Mapping mapping = mappingMap.get(property.getName());
+            if (mapping == null || mapping.isExclude()) {
+                continue;
+            }
+
+            Accessor setter = mapping.getSetter();
+            Accessor getter = mapping.getGetter();
+            String getterMethod = getter == null ? null : getter.getMethodName();
+
+            ConstantValue constantSrc = mapping.getConstant();
+
+            // Getters used more than once are read into a local before the builder chain
+            CodeBlock.Builder statements = CodeBlock.builder()
+                    .add(locals.declarationCode(mapping));
+            CodeBlock retrieveValueCode = locals.valueCode(constantSrc, getter, getterMethod);
+
+            // Read the source value into a local if traced
+            CodeBlock sourceValueCode = generateTracedSourceCode(mapping, statements, retrieveValueCode);
+            retrieveValueCode = sourceValueCode;
+            MemberRefInfo converter = mapping.getConverter();
+
+            // Apply cloning if needed
+            retrieveValueCode = generateCloneCode(src, mapping, getter, retrieveValueCode);
+
+            // Apply converter if present
+            retrieveValueCode = generateConvertCode(converter, setter, getter, srcType, fields, retrieveValueCode);
+
+            // Time the converter if recorded or metered, before the builder chain
+            retrieveValueCode = generateTimedConversionCode(mapperType, mapping, fields, statements, retrieveValueCode);
+
+            // Map collection elements or map entries if needed
+            retrieveValueCode = generateElementMappingCode(mapping, methods, fields, retrieveValueCode);
+
+            // Map with the generated mapper of another spec if needed
+            retrieveValueCode = generateNestedMapperCode(mapping, retrieveValueCode);
+
+            // Apply primitive/boxed conversion if needed
+            retrieveValueCode = generateTypeConversionCode(mapping, getter, setter, retrieveValueCode);
+
+            // Pass the source and mapped values to the tracer if traced
+            retrieveValueCode = generateTraceCode(mapperType, mapping, statements, sourceValueCode, retrieveValueCode);
+            mapMethod.addCode(statements.build());
+
+            chain.add("\n.$N($L)", property.getMethodName(), retrieveValueCode);
+        }
+
+        chain.add("\n.$N()", builder.buildMethod())
+                .unindent();
+
+        if (graph) {
+            mapMethod.addStatement("$T dst = $L", dstType, chain.build())
+                    .addStatement("ctx.put(src, $T.class, dst)", dstType)
+                    .addStatement("return dst");
+        } else {
+            mapMethod.addStatement("return $L", chain.build());
+        }
+
+        // A single builder chain cannot be split into chunks like setter bodies
+        warnIfHuge(mapperType.simpleName() + (graph ? ".map" : ".mapNonNull"), BytecodeEstimator.estimate(mappings.stream()
+                .filter(m -> !m.isExclude())
+                .toList(), tracing, timesConversions()));
+
+        ParameterizedTypeName superInterface = ParameterizedTypeName.get(
+                ClassName.get(graph ? GraphMapper.class : Mapper.class), srcType, dstType
+        );
+
+        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(mapperType)
+                .addOriginatingElement(spec)
+                .addOriginatingElement(src)
+                .addOriginatingElement(dst)
+                .addSuperinterface(superInterface)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addField(generateInstanceField(mapperType))
+                .addFields(generateMetricsFields(mapperType))
+                .addFields(fields);
+        if (graph) {
+            typeBuilder.addMethods(meterEntryMethods(List.of(generateGraphEntryMethod(srcType, dstType))));
+        } else {
+            typeBuilder.addMethods(meterEntryMethods(List.of(generateNullCheckingEntryMethod(srcType, dstType))));
+        }
+
+        TypeSpec type = typeBuilder
+                .addMethods(meterEntryMethods(List.of(mapMethod.build())))
+                .addMethods(meterEntryMethods(recordBatchEvents(mapperType, generateBatchMethods(srcType, dstType, graph))))
+                .addMethods(meterEntryMethods(recordBatchEvents(mapperType, generateParallelBatchMethods(srcType, dstType, graph))))
+                .addMethods(methods)
+                .build();
+
+        JavaFile javaFile = JavaFile.builder(fqcn.packageName(), type)
+                .indent("  ")
+                .build();
+
+        return javaFile::writeTo;
+    }
+}
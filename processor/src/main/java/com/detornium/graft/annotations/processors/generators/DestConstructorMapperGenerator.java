@@ -0,0 +1,200 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.annotations.processors.generators;
+
+import com.detornium.graft.GraphContext;
+import com.detornium.graft.GraphMapper;
+import com.detornium.graft.Mapper;
+import com.detornium.graft.annotations.processors.models.*;
+import com.squareup.javapoet.*;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.detornium.graft.annotations.processors.generators.CodeSnippets.returnNullIfNullCode;
+
+/**
+ * Generates mappers for immutable targets created with a single constructor call: records (canonical constructor)
+ * and classes with a mapping constructor.
+ */
+public class DestConstructorMapperGenerator extends MapperGeneratorBase {
+
+    private final List<Accessor> parameters; // constructor parameters in declaration order
+
+    public DestConstructorMapperGenerator(boolean graph, Metering metering, boolean tracing, boolean events,
+                                          List<Accessor> parameters) {
+        super(graph, metering, tracing, events);
+        this.parameters = parameters;
+    }
+
+    @Override
+    public GeneratorResult generate(TypeElement spec, Fqcn fqcn,
+                                    TypeElement src, TypeElement dst,
+                                    List<Mapping> mappings) {
+
+        ClassName srcType = ClassName.get(src);
+        ClassName dstType = ClassName.get(dst);
+        ClassName mapperType = ClassName.get(fqcn.packageName(), fqcn.className());
+
+        List<FieldSpec> fields = new ArrayList<>();
+        List<MethodSpec> methods = new ArrayList<>();
+
+        Map<String, Mapping> mappingMap = mappings.stream()
+                .collect(Collectors.toMap(m -> m.getSetter().getName(), m -> m));
+        SourceValueLocals locals = new SourceValueLocals(mappings);
+
+        MethodSpec.Builder mapMethod = MethodSpec.methodBuilder(graph ? "map" : "mapNonNull")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(Override.class)
+                .returns(dstType)
+                .addParameter(srcType, "src");
+
+        if (graph) {
+            // An immutable target only exists once all arguments are mapped, so the source is reserved meanwhile
+            mapMethod.addParameter(GraphContext.class, "ctx")
+                    .addCode(returnNullIfNullCode("src"))
+                    .addCode(graphLookupCode(dstType))
+                    .addStatement("ctx.reserve(src, $T.class)", dstType);
+        }
+
+        List<CodeBlock> args = new LinkedList<>();
+
+        for (Accessor parameter : parameters) {
+            String destName = parameter.getName();
+            String type = parameter.getValueType().toString();
+
+            CodeBlock retrieveValueCode;
+            Mapping mapping = mappingMap.get(destName);
+            if (mapping != null && !mapping.isExclude()) {
+                Accessor setter = mapping.getSetter();
+                Accessor getter = mapping.getGetter();
+                String getterMethod = getter == null ? null : getter.getMethodName();
+
+                ConstantValue constantSrc = mapping.getConstant();
+
+                // Getters used more than once are read into a local before the constructor call
+                CodeBlock.Builder statements = CodeBlock.builder()
+                        .add(locals.declarationCode(mapping));
+                retrieveValueCode = locals.valueCode(constantSrc, getter, getterMethod);
+
+                // Read the source value into a local if traced
+                CodeBlock sourceValueCode = generateTracedSourceCode(mapping, statements, retrieveValueCode);
+                retrieveValueCode = sourceValueCode;
+                MemberRefInfo converter = mapping.getConverter();
+
+                // Apply cloning if needed
+                retrieveValueCode = generateCloneCode(src, mapping, getter, retrieveValueCode);
+
+                // Apply converter if present
+                retrieveValueCode = generateConvertCode(converter, setter, getter, srcType, fields, retrieveValueCode);
+
+                // Time the converter if recorded or metered, before the constructor call
+                retrieveValueCode = generateTimedConversionCode(mapperType, mapping, fields, statements, retrieveValueCode);
+
+                // Map collection elements or map entries if needed
+                retrieveValueCode = generateElementMappingCode(mapping, methods, fields, retrieveValueCode);
+
+                // Map with the generated mapper of another spec if needed
+                retrieveValueCode = generateNestedMapperCode(mapping, retrieveValueCode);
+
+                // Apply primitive/boxed conversion if needed
+                retrieveValueCode = generateTypeConversionCode(mapping, getter, setter, retrieveValueCode);
+
+                // Pass the source and mapped values to the tracer if traced
+                retrieveValueCode = generateTraceCode(mapperType, mapping, statements, sourceValueCode, retrieveValueCode);
+                mapMethod.addCode(statements.build());
+            } else if (isPrimitive(type)) {
+                retrieveValueCode = CodeBlock.of("$L", getZeroValue(type));
+            } else {
+                retrieveValueCode = CodeBlock.of("null");
+            }
+
+            args.add(retrieveValueCode);
+        }
+
+        CodeBlock argsBlock = CodeBlock.join(args, "," + System.lineSeparator());
+        if (graph) {
+            mapMethod.addStatement("$T dst = new $T($L)", dstType, dstType, argsBlock)
+                    .addStatement("ctx.put(src, $T.class, dst)", dstType)
+                    .addStatement("return dst");
+        } else {
+            mapMethod.addStatement("return new $T($L)", dstType, argsBlock);
+        }
+
+        // A single constructor call cannot be split into chunks like setter bodies
+        warnIfHuge(mapperType.simpleName() + (graph ? ".map" : ".mapNonNull"), BytecodeEstimator.estimate(mappings.stream()
+                .filter(m -> !m.isExclude())
+                .toList(), tracing, timesConversions()));
+
+        ParameterizedTypeName superInterface = ParameterizedTypeName.get(
+                ClassName.get(graph ? GraphMapper.class : Mapper.class), srcType, dstType
+        );
+
+        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(mapperType)
+                .addOriginatingElement(spec)
+                .addOriginatingElement(src)
+                .addOriginatingElement(dst)
+                .addSuperinterface(superInterface)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addField(generateInstanceField(mapperType))
+                .addFields(generateMetricsFields(mapperType))
+                .addFields(fields);
+        if (graph) {
+            typeBuilder.addMethods(meterEntryMethods(List.of(generateGraphEntryMethod(srcType, dstType))));
+        } else {
+            typeBuilder.addMethods(meterEntryMethods(List.of(generateNullCheckingEntryMethod(srcType, dstType))));
+        }
+
+        TypeSpec type = typeBuilder
+                .addMethods(meterEntryMethods(List.of(mapMethod.build())))
+                .addMethods(meterEntryMethods(recordBatchEvents(mapperType, generateBatchMethods(srcType, dstType, graph))))
+                .addMethods(meterEntryMethods(recordBatchEvents(mapperType, generateParallelBatchMethods(srcType, dstType, graph))))
+                .addMethods(methods)
+                .build();
+
+        JavaFile javaFile = JavaFile.builder(fqcn.packageName(), type)
+                .indent("  ")
+                .build();
+
+        return javaFile::writeTo;
+    }
+
+    private boolean isPrimitive(String type) {
+        return type.equals("int") || type.equals("long") || type.equals("double") ||
+                type.equals("float") || type.equals("boolean") || type.equals("char") ||
+                type.equals("byte") || type.equals("short");
+    }
+
+    private String getZeroValue(String type) {
+        return switch (type) {
+            case "int" -> "0";
+            case "long" -> "0L";
+            case "double" -> "0.0";
+            case "float" -> "0.0f";
+            case "boolean" -> "false";
+            case "char" -> "'\\0'";
+            case "byte" -> "(byte)0";
+            case "short" -> "(short)0";
+            default -> "null";
+        };
+    }
+}
\ No newline at end of file
@@ -16,7 +16,9 @@
 
 package com.detornium.graft.annotations.processors.generators;
 
-import com.detornium.graft.Mapper;
+import com.detornium.graft.GraphContext;
+import com.detornium.graft.GraphMapper;
+import com.detornium.graft.UpdatingMapper;
 import com.detornium.graft.annotations.processors.models.*;
 import com.squareup.javapoet.*;
 
@@ -30,66 +32,161 @@ import static com.detornium.graft.annotations.processors.generators.CodeSnippets
 
 public class GetterSetterMapperGenerator extends MapperGeneratorBase {
 
+    public GetterSetterMapperGenerator(boolean graph, Metering metering, boolean tracing, boolean events) {
+        super(graph, metering, tracing, events);
+    }
+
     @Override
-    public GeneratorResult generate(Fqcn fqcn,
+    public GeneratorResult generate(TypeElement spec, Fqcn fqcn,
                                     TypeElement src, TypeElement dst,
                                     List<Mapping> mappings) {
 
         ClassName srcType = ClassName.get(src);
         ClassName dstType = ClassName.get(dst);
+        ClassName mapperType = ClassName.get(fqcn.packageName(), fqcn.className());
 
         // Fields for converters would be added here if needed.
         List<FieldSpec> fields = new ArrayList<>();
+        List<MethodSpec> methods = new ArrayList<>();
+
+        List<MethodSpec> entryMethods = new ArrayList<>();
+        MethodSpec.Builder mapPropertiesMethod;
+
+        if (graph) {
+            // The target is registered before its properties are mapped, so back-references resolve to it
+            entryMethods.add(generateGraphEntryMethod(srcType, dstType));
+            entryMethods.add(MethodSpec.methodBuilder("map")
+                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                    .addAnnotation(Override.class)
+                    .returns(dstType)
+                    .addParameter(srcType, "src")
+                    .addParameter(GraphContext.class, "ctx")
+                    .addCode(returnNullIfNullCode("src"))
+                    .addCode(graphLookupCode(dstType))
+                    .addStatement(constructVariableStatement(dstType, "dst"))
+                    .addStatement("ctx.put(src, $T.class, dst)", dstType)
+                    .addStatement("mapProperties(src, dst, ctx)")
+                    .addStatement("return dst")
+                    .build());
+            entryMethods.add(MethodSpec.methodBuilder("update")
+                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                    .addAnnotation(Override.class)
+                    .addParameter(srcType, "src")
+                    .addParameter(dstType, "dst")
+                    .beginControlFlow("if (src == null)")
+                    .addStatement("return")
+                    .endControlFlow()
+                    .addStatement("$T ctx = new $T()", GraphContext.class, GraphContext.class)
+                    .addStatement("ctx.put(src, $T.class, dst)", dstType)
+                    .addStatement("mapProperties(src, dst, ctx)")
+                    .build());
+
+            mapPropertiesMethod = MethodSpec.methodBuilder("mapProperties")
+                    .addModifiers(Modifier.PRIVATE)
+                    .addParameter(srcType, "src")
+                    .addParameter(dstType, "dst")
+                    .addParameter(GraphContext.class, "ctx");
+        } else {
+            // The source is checked for null once per entry point, the body itself has no checks
+            entryMethods.add(generateNullCheckingEntryMethod(srcType, dstType));
+            entryMethods.add(MethodSpec.methodBuilder("mapNonNull")
+                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                    .addAnnotation(Override.class)
+                    .returns(dstType)
+                    .addParameter(srcType, "src")
+                    .addStatement(constructVariableStatement(dstType, "dst"))
+                    .addStatement("mapProperties(src, dst)")
+                    .addStatement("return dst")
+                    .build());
+            entryMethods.add(MethodSpec.methodBuilder("update")
+                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                    .addAnnotation(Override.class)
+                    .addParameter(srcType, "src")
+                    .addParameter(dstType, "dst")
+                    .beginControlFlow("if (src == null)")
+                    .addStatement("return")
+                    .endControlFlow()
+                    .addStatement("mapProperties(src, dst)")
+                    .build());
+
+            mapPropertiesMethod = MethodSpec.methodBuilder("mapProperties")
+                    .addModifiers(Modifier.PRIVATE)
+                    .addParameter(srcType, "src")
+                    .addParameter(dstType, "dst");
+        }
 
-        MethodSpec.Builder mapMethod = MethodSpec.methodBuilder("map")
-                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addAnnotation(Override.class)
-                .returns(dstType)
-                .addParameter(srcType, "src")
-                .addCode(returnNullIfNullCode("src"))
-                .addStatement(constructVariableStatement(dstType, "dst"));
-
-
-        for (Mapping mapping : mappings) {
-            if (mapping.isExclude() || mapping.getSetter() == null) {
-                continue;
+        SourceValueLocals locals = new SourceValueLocals(mappings);
+        List<Mapping> activeMappings = mappings.stream()
+                .filter(m -> !m.isExclude() && m.getSetter() != null)
+                .toList();
+
+        // Bodies above FreqInlineSize are split into chunks, so wide targets never reach HugeMethodLimit, above which
+        // a method is not compiled at all. Chunks fit FreqInlineSize unless a group of properties sharing a source
+        // local exceeds it alone; such a chunk cannot be inlined, and the processor warns about it.
+        List<List<List<Mapping>>> chunks = BytecodeEstimator.chunk(locals.groups(activeMappings), tracing,
+                timesConversions());
+        List<MethodSpec> chunkMethods = new ArrayList<>();
+
+        if (chunks.size() <= 1) {
+            for (Mapping mapping : locals.schedule(activeMappings)) {
+                mapPropertiesMethod.addCode(generateMappingCode(src, srcType, mapperType, mapping, locals, fields, methods));
             }
-            
-            Accessor setter = mapping.getSetter();
-            String setterMethod = setter.getMethodName();
-
-            Accessor getter = mapping.getGetter();
-            String getterMethod = getter == null ? null : getter.getMethodName();
-
-            MemberRefInfo converter = mapping.getConverter();
-            ConstantValue constantSrc = mapping.getConstant();
-
-            // Retrieve value code block
-            CodeBlock retrieveValueCode = generateValueRetrievalCode(constantSrc, getter, getterMethod);
-
-            // Apply cloning if needed
-            retrieveValueCode = generateCloneCode(src, mapping, getter, retrieveValueCode);
-
-            // Apply converter if present
-            retrieveValueCode = generateConvertCode(converter, setter, getter, srcType, fields, retrieveValueCode);
-
-            // Set property statement
-            CodeBlock setPropertyStatement = generateSetCode(setterMethod, retrieveValueCode);
-
-            mapMethod.addStatement(setPropertyStatement);
+            int size = BytecodeEstimator.estimate(activeMappings, tracing, timesConversions());
+            warnIfHuge(mapperType.simpleName() + ".mapProperties", size);
+            warnIfNotInlinable(mapperType.simpleName() + ".mapProperties", size);
+        } else {
+            for (int i = 0; i < chunks.size(); i++) {
+                String chunkName = "mapChunk" + i;
+                MethodSpec.Builder chunkMethod = MethodSpec.methodBuilder(chunkName)
+                        .addModifiers(Modifier.PRIVATE)
+                        .addParameter(srcType, "src")
+                        .addParameter(dstType, "dst");
+                if (graph) {
+                    chunkMethod.addParameter(GraphContext.class, "ctx");
+                    mapPropertiesMethod.addStatement("$L(src, dst, ctx)", chunkName);
+                } else {
+                    mapPropertiesMethod.addStatement("$L(src, dst)", chunkName);
+                }
+
+                List<Mapping> chunkMappings = chunks.get(i).stream()
+                        .flatMap(List::stream)
+                        .toList();
+                for (Mapping mapping : chunkMappings) {
+                    chunkMethod.addCode(generateMappingCode(src, srcType, mapperType, mapping, locals, fields, methods));
+                }
+                int size = BytecodeEstimator.estimate(chunkMappings, tracing, timesConversions());
+                warnIfHuge(mapperType.simpleName() + "." + chunkName, size);
+                warnIfNotInlinable(mapperType.simpleName() + "." + chunkName, size);
+
+                chunkMethods.add(chunkMethod.build());
+            }
+            warnIfHuge(mapperType.simpleName() + ".mapProperties", chunks.size() * BytecodeEstimator.CHUNK_CALL_SIZE);
         }
 
-        mapMethod.addStatement("return dst");
-
         ParameterizedTypeName superInterface = ParameterizedTypeName.get(
-                ClassName.get(Mapper.class), srcType, dstType
+                ClassName.get(UpdatingMapper.class), srcType, dstType
         );
 
-        TypeSpec type = TypeSpec.classBuilder(fqcn.className())
-                .addSuperinterface(superInterface)
+        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(mapperType)
+                .addOriginatingElement(spec)
+                .addOriginatingElement(src)
+                .addOriginatingElement(dst)
+                .addSuperinterface(superInterface);
+        if (graph) {
+            typeBuilder.addSuperinterface(ParameterizedTypeName.get(ClassName.get(GraphMapper.class), srcType, dstType));
+        }
+
+        TypeSpec type = typeBuilder
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addField(generateInstanceField(mapperType))
+                .addFields(generateMetricsFields(mapperType))
                 .addFields(fields)
-                .addMethod(mapMethod.build())
+                .addMethods(meterEntryMethods(entryMethods))
+                .addMethod(mapPropertiesMethod.build())
+                .addMethods(chunkMethods)
+                .addMethods(meterEntryMethods(recordBatchEvents(mapperType, generateBatchMethods(srcType, dstType, graph))))
+                .addMethods(meterEntryMethods(recordBatchEvents(mapperType, generateParallelBatchMethods(srcType, dstType, graph))))
+                .addMethods(methods)
                 .build();
 
         JavaFile javaFile = JavaFile.builder(fqcn.packageName(), type)
@@ -99,7 +196,56 @@ public class GetterSetterMapperGenerator extends MapperGeneratorBase {
         return javaFile::writeTo;
     }
 
-    private static CodeBlock generateSetCode(String setterMethod, CodeBlock retrieveValueCode) {
+    private CodeBlock generateMappingCode(TypeElement src, ClassName srcType, ClassName mapperType, Mapping mapping,
+                                          SourceValueLocals locals, List<FieldSpec> fields, List<MethodSpec> methods) {
+        Accessor setter = mapping.getSetter();
+        String setterMethod = setter.getMethodName();
+
+        Accessor getter = mapping.getGetter();
+        String getterMethod = getter == null ? null : getter.getMethodName();
+
+        MemberRefInfo converter = mapping.getConverter();
+        ConstantValue constantSrc = mapping.getConstant();
+
+        // Retrieve value code block, getters used more than once are read into a local first
+        CodeBlock.Builder code = CodeBlock.builder()
+                .add(locals.declarationCode(mapping));
+        CodeBlock retrieveValueCode = locals.valueCode(constantSrc, getter, getterMethod);
+
+        // Read the source value into a local if traced
+        CodeBlock sourceValueCode = generateTracedSourceCode(mapping, code, retrieveValueCode);
+        retrieveValueCode = sourceValueCode;
+
+        // Apply cloning if needed
+        retrieveValueCode = generateCloneCode(src, mapping, getter, retrieveValueCode);
+
+        // Apply converter if present
+        retrieveValueCode = generateConvertCode(converter, setter, getter, srcType, fields, retrieveValueCode);
+
+        // Time the converter if recorded or metered
+        retrieveValueCode = generateTimedConversionCode(mapperType, mapping, fields, code, retrieveValueCode);
+
+        // Map collection elements or map entries if needed
+        retrieveValueCode = generateElementMappingCode(mapping, methods, fields, retrieveValueCode);
+
+        // Map with the generated mapper of another spec if needed
+        retrieveValueCode = generateNestedMapperCode(mapping, retrieveValueCode);
+
+        // Apply primitive/boxed conversion if needed
+        retrieveValueCode = generateTypeConversionCode(mapping, getter, setter, retrieveValueCode);
+
+        // Pass the source and mapped values to the tracer if traced
+        retrieveValueCode = generateTraceCode(mapperType, mapping, code, sourceValueCode, retrieveValueCode);
+
+        // Set property statement
+        return code.addStatement(generateSetCode(setter, setterMethod, retrieveValueCode))
+                .build();
+    }
+
+    private static CodeBlock generateSetCode(Accessor setter, String setterMethod, CodeBlock retrieveValueCode) {
+        if (setter.getType() == Accessor.AccessorType.FIELD) {
+            return CodeBlock.of("dst.$L = $L", setterMethod, retrieveValueCode);
+        }
         return CodeBlock.of("dst.$L($L)", setterMethod, retrieveValueCode);
     }
 
@@ -23,7 +23,13 @@ import javax.lang.model.element.TypeElement;
 import java.util.List;
 
 public interface MapperGenerator {
-    GeneratorResult generate(Fqcn fqcn,
+    // The spec, source and target are the originating elements of the mapper. Mappers also depend on the other specs
+    // of the compilation (nested, element and auto-mapped properties), and specs are read through javac's Trees API,
+    // so the processors are not registered as incremental with Gradle
+    GeneratorResult generate(TypeElement spec, Fqcn fqcn,
                              TypeElement src, TypeElement dst,
                              List<Mapping> mappings);
+
+    // Diagnostics about the last generated mapper, e.g. methods too large for the JIT
+    List<String> getWarnings();
 }
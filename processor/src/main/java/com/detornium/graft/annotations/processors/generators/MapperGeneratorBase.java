@@ -15,7 +15,17 @@
  */
 package com.detornium.graft.annotations.processors.generators;
 
+import com.detornium.graft.GraphContext;
+import com.detornium.graft.ParallelMapping;
 import com.detornium.graft.annotations.processors.models.*;
+import com.detornium.graft.annotations.processors.utils.Helpers;
+import com.detornium.graft.jfr.GraftEvents;
+import com.detornium.graft.jfr.MappingBatchEvent;
+import com.detornium.graft.jfr.SlowConversionEvent;
+import com.detornium.graft.metrics.ConverterProbe;
+import com.detornium.graft.metrics.GraftMetrics;
+import com.detornium.graft.metrics.MapperProbe;
+import com.detornium.graft.trace.GraftTracing;
 import com.squareup.javapoet.*;
 
 import javax.lang.model.element.Modifier;
@@ -23,38 +33,646 @@ import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.detornium.graft.annotations.processors.generators.CodeSnippets.directInvocationCode;
 import static com.detornium.graft.annotations.processors.generators.CodeSnippets.methodRefCode;
+import static com.detornium.graft.annotations.processors.generators.CodeSnippets.returnNullIfNullCode;
 import static com.detornium.graft.annotations.processors.utils.Helpers.*;
 
 abstract class MapperGeneratorBase implements MapperGenerator {
 
-    private static final Map<Class<?>, Class<?>> DEFAULT_COLLECTION_IMPLEMENTATIONS = Map.ofEntries(
-            // List
-            Map.entry(List.class, ArrayList.class),
-
-            // Set
-            Map.entry(Set.class, HashSet.class),
-            Map.entry(SortedSet.class, TreeSet.class),
-
-            // Map
-            Map.entry(WeakHashMap.class, WeakHashMap.class),
-            Map.entry(Map.class, HashMap.class),
-            Map.entry(ConcurrentHashMap.class, ConcurrentHashMap.class),
-            Map.entry(ConcurrentMap.class, ConcurrentHashMap.class),
-            Map.entry(SortedMap.class, TreeMap.class),
-            Map.entry(NavigableMap.class, TreeMap.class)
+    // Constructors taking the expected number of elements
+    private static final Set<String> SIZED_IMPLEMENTATIONS = Set.of(
+            ArrayList.class.getName(),
+            Vector.class.getName(),
+            ArrayDeque.class.getName(),
+            IdentityHashMap.class.getName(),
+            ConcurrentHashMap.class.getName()
     );
 
+    // Constructors taking a hash table capacity, which has to account for the 0.75 load factor
+    private static final Set<String> HASHED_IMPLEMENTATIONS = Set.of(
+            HashSet.class.getName(),
+            LinkedHashSet.class.getName(),
+            HashMap.class.getName(),
+            LinkedHashMap.class.getName(),
+            WeakHashMap.class.getName()
+    );
+
+    // Graph mappers thread a GraphContext through map(S, GraphContext) and nested graph mappers
+    protected final boolean graph;
+
+    // Metered mappers report to a MapperProbe, see meterEntryMethods
+    protected final Metering metering;
+
+    // Traced mappers report every property to the MappingTracer, see generateTraceCode
+    protected final boolean tracing;
+
+    // Mappers with events emit JFR events through GraftEvents, see recordBatchEvents and generateTimedConversionCode
+    protected final boolean events;
+
+    protected final List<String> warnings = new ArrayList<>();
+
+    protected MapperGeneratorBase(boolean graph, Metering metering, boolean tracing, boolean events) {
+        this.graph = graph;
+        this.metering = metering;
+        this.tracing = tracing;
+        this.events = events;
+    }
+
+    @Override
+    public List<String> getWarnings() {
+        return warnings;
+    }
+
+    protected void warnIfHuge(String method, int estimatedSize) {
+        if (estimatedSize > BytecodeEstimator.HUGE_METHOD_LIMIT) {
+            warnings.add(BytecodeEstimator.hugeMethodWarning(method, estimatedSize));
+        }
+    }
+
+    // Huge methods get the stronger warning only
+    protected void warnIfNotInlinable(String method, int estimatedSize) {
+        if (estimatedSize > BytecodeEstimator.FREQ_INLINE_SIZE && estimatedSize <= BytecodeEstimator.HUGE_METHOD_LIMIT) {
+            warnings.add(BytecodeEstimator.notInlinableWarning(method, estimatedSize));
+        }
+    }
+
+    // Batch methods delegate to the final mapNonNull(S) of the same final class, so every per-element call is
+    // statically bound and inlined by the JIT without duplicating the mapping body in each loop.
+    // Graph mappers share one context across the batch, so elements referencing the same object share its target.
+    // mapInto(Iterable, C) delegates to mapAllInto, which returns the number of elements it added for the batch hooks.
+    protected List<MethodSpec> generateBatchMethods(TypeName srcType, TypeName dstType, boolean graph) {
+        CodeBlock newContext = newGraphContextCode(graph);
+        String mapElement = mapElementCode(graph);
+
+        TypeName listType = ParameterizedTypeName.get(ClassName.get(List.class), dstType);
+        TypeName arrayListType = ParameterizedTypeName.get(ClassName.get(ArrayList.class), dstType);
+        TypeName srcListType = ParameterizedTypeName.get(ClassName.get(List.class), WildcardTypeName.subtypeOf(srcType));
+
+        MethodSpec mapAllCollection = MethodSpec.methodBuilder("mapAll")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(Override.class)
+                .returns(listType)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Collection.class), WildcardTypeName.subtypeOf(srcType)), "src")
+                .addCode(returnNullIfNullCode("src"))
+                .addStatement("int size = src.size()")
+                .addStatement("$T dst = new $T<>(size)", arrayListType, ArrayList.class)
+                .addCode(newContext)
+                .beginControlFlow("if (src instanceof $T && src instanceof $T)", List.class, RandomAccess.class)
+                .addStatement("$T list = ($T) src", srcListType, srcListType)
+                .beginControlFlow("for (int i = 0; i < size; i++)")
+                .addStatement("$T element = list.get(i)", srcType)
+                .addStatement("dst.add(element == null ? null : $L)", mapElement)
+                .endControlFlow()
+                .nextControlFlow("else")
+                .beginControlFlow("for ($T element : src)", srcType)
+                .addStatement("dst.add(element == null ? null : $L)", mapElement)
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return dst")
+                .build();
+
+        MethodSpec mapAllArray = MethodSpec.methodBuilder("mapAll")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(Override.class)
+                .returns(listType)
+                .addParameter(ArrayTypeName.of(srcType), "src")
+                .addCode(returnNullIfNullCode("src"))
+                .addStatement("$T dst = new $T<>(src.length)", arrayListType, ArrayList.class)
+                .addCode(newContext)
+                .beginControlFlow("for ($T element : src)", srcType)
+                .addStatement("dst.add(element == null ? null : $L)", mapElement)
+                .endControlFlow()
+                .addStatement("return dst")
+                .build();
+
+        TypeName srcIterableType = ParameterizedTypeName.get(ClassName.get(Iterable.class), WildcardTypeName.subtypeOf(srcType));
+        TypeName dstCollectionType = ParameterizedTypeName.get(ClassName.get(Collection.class), WildcardTypeName.supertypeOf(dstType));
+        TypeVariableName collectionVar = TypeVariableName.get("C", dstCollectionType);
+
+        MethodSpec mapInto = MethodSpec.methodBuilder("mapInto")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(Override.class)
+                .addTypeVariable(collectionVar)
+                .returns(collectionVar)
+                .addParameter(srcIterableType, "src")
+                .addParameter(collectionVar, "dst")
+                .addStatement("mapAllInto(src, dst)")
+                .addStatement("return dst")
+                .build();
+
+        MethodSpec mapAllInto = MethodSpec.methodBuilder("mapAllInto")
+                .addModifiers(Modifier.PRIVATE)
+                .returns(int.class)
+                .addParameter(srcIterableType, "src")
+                .addParameter(dstCollectionType, "dst")
+                .beginControlFlow("if (src == null)")
+                .addStatement("return 0")
+                .endControlFlow()
+                .addCode(newContext)
+                .addStatement("int count = 0")
+                .beginControlFlow("for ($T element : src)", srcType)
+                .addStatement("dst.add(element == null ? null : $L)", mapElement)
+                .addStatement("count++")
+                .endControlFlow()
+                .addStatement("return count")
+                .build();
+
+        return List.of(mapAllCollection, mapAllArray, mapInto, mapAllInto);
+    }
+
+    // Each fork/join part writes its own slice of a typed result array; the per-element call stays statically bound.
+    // GraphContext is not thread-safe, so graph mappers use one context per part.
+    protected List<MethodSpec> generateParallelBatchMethods(TypeName srcType, TypeName dstType, boolean graph) {
+        TypeName listType = ParameterizedTypeName.get(ClassName.get(List.class), dstType);
+        TypeName srcListType = ParameterizedTypeName.get(ClassName.get(List.class), WildcardTypeName.subtypeOf(srcType));
+
+        MethodSpec mapAllParallelCommonPool = MethodSpec.methodBuilder("mapAllParallel")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(Override.class)
+                .returns(listType)
+                .addParameter(srcListType, "src")
+                .addParameter(int.class, "minChunk")
+                .addStatement("return mapAllParallel(src, minChunk, $T.commonPool())", ForkJoinPool.class)
+                .build();
+
+        MethodSpec mapAllParallel = MethodSpec.methodBuilder("mapAllParallel")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(Override.class)
+                .returns(listType)
+                .addParameter(srcListType, "src")
+                .addParameter(int.class, "minChunk")
+                .addParameter(ForkJoinPool.class, "pool")
+                .addCode(returnNullIfNullCode("src"))
+                .addStatement("$T source = src instanceof $T ? src : new $T<>(src)", srcListType, RandomAccess.class, ArrayList.class)
+                .addStatement("$T dst = new $T[source.size()]", ArrayTypeName.of(dstType), dstType)
+                .addCode("$T.forEachRange(pool, dst.length, minChunk, (from, to) -> {\n$>", ParallelMapping.class)
+                .addCode(newGraphContextCode(graph))
+                .beginControlFlow("for (int i = from; i < to; i++)")
+                .addStatement("$T element = source.get(i)", srcType)
+                .addStatement("dst[i] = element == null ? null : $L", mapElementCode(graph))
+                .endControlFlow()
+                .addCode("$<});\n")
+                .addStatement("return $T.asList(dst)", Arrays.class)
+                .build();
+
+        return List.of(mapAllParallelCommonPool, mapAllParallel);
+    }
+
+    // The probe is looked up once per mapper class, and only with metrics enabled
+    protected List<FieldSpec> generateMetricsFields(ClassName mapperType) {
+        if (!metering.isMetered()) {
+            return List.of();
+        }
+
+        return List.of(FieldSpec.builder(MapperProbe.class, "METRICS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.ENABLED ? $T.probe($S) : null", GraftMetrics.class, GraftMetrics.class,
+                        mapperType.reflectionName())
+                .build());
+    }
+
+    // Public entry points of metered mappers become wrappers around private ...Unmetered copies. Every hook is
+    // guarded by the static final GraftMetrics.ENABLED, so with metrics disabled the JIT folds the wrapper into
+    // a plain call of the copy and inlines it. Per-element calls of batches and nested graph calls are not metered.
+    protected List<MethodSpec> meterEntryMethods(List<MethodSpec> methods) {
+        if (!metering.isMetered()) {
+            return methods;
+        }
+
+        List<MethodSpec> result = new ArrayList<>();
+        for (MethodSpec method : methods) {
+            EntryCall call = entryCall(method);
+            if (call == EntryCall.NONE) {
+                result.add(method);
+                continue;
+            }
+
+            CodeBlock record = call == EntryCall.SINGLE
+                    ? CodeBlock.builder().addStatement("METRICS.recordMap($T.nanoTime() - start)", System.class).build()
+                    : CodeBlock.builder().addStatement("METRICS.recordBatch($L, $T.nanoTime() - start)",
+                    batchSizeCode(call), System.class).build();
+            result.addAll(wrapEntryMethod(method, "Unmetered", CodeBlock.of("!$T.ENABLED", GraftMetrics.class),
+                    CodeBlock.builder().addStatement("long start = $T.nanoTime()", System.class).build(),
+                    record));
+        }
+        return result;
+    }
+
+    // Batch entry points of mappers with events record a MappingBatchEvent, but only while the event type is enabled
+    // in a JFR recording; otherwise the wrapper costs one check per batch. The bodies move to private ...Unrecorded
+    // copies.
+    protected List<MethodSpec> recordBatchEvents(ClassName mapperType, List<MethodSpec> methods) {
+        if (!events) {
+            return methods;
+        }
+
+        List<MethodSpec> result = new ArrayList<>();
+        for (MethodSpec method : methods) {
+            EntryCall call = entryCall(method);
+            if (call != EntryCall.BATCH && call != EntryCall.BATCH_INTO) {
+                result.add(method);
+                continue;
+            }
+
+            result.addAll(wrapEntryMethod(method, "Unrecorded", CodeBlock.of("!$T.isBatchEnabled()", GraftEvents.class),
+                    CodeBlock.builder()
+                            .addStatement("$T event = $T.beginBatch()", MappingBatchEvent.class, GraftEvents.class)
+                            .build(),
+                    CodeBlock.builder()
+                            .addStatement("$T.commitBatch(event, $T.class, $L)", GraftEvents.class, mapperType,
+                                    batchSizeCode(call))
+                            .build()));
+        }
+        return result;
+    }
+
+    // Wrapper calling a private copy of the method directly while skip holds, and between before and after
+    // otherwise. After sees the call's result (if any).
+    private static List<MethodSpec> wrapEntryMethod(MethodSpec method, String suffix, CodeBlock skip,
+                                                    CodeBlock before, CodeBlock after) {
+        String delegate = method.name + suffix;
+        String args = method.parameters.stream()
+                .map(p -> p.name)
+                .collect(Collectors.joining(", "));
+        boolean returns = !method.returnType.equals(TypeName.VOID);
+
+        MethodSpec.Builder wrapper = MethodSpec.methodBuilder(method.name)
+                .addModifiers(method.modifiers)
+                .addAnnotations(method.annotations)
+                .addTypeVariables(method.typeVariables)
+                .returns(method.returnType)
+                .addParameters(method.parameters)
+                .beginControlFlow("if ($L)", skip);
+        if (returns) {
+            wrapper.addStatement("return $L($L)", delegate, args);
+        } else {
+            wrapper.addStatement("$L($L)", delegate, args)
+                    .addStatement("return");
+        }
+        wrapper.endControlFlow();
+
+        wrapper.addCode(before);
+        if (returns) {
+            wrapper.addStatement("$T result = $L($L)", method.returnType, delegate, args);
+        } else {
+            wrapper.addStatement("$L($L)", delegate, args);
+        }
+        wrapper.addCode(after);
+        if (returns) {
+            wrapper.addStatement("return result");
+        }
+
+        MethodSpec copy = MethodSpec.methodBuilder(delegate)
+                .addModifiers(Modifier.PRIVATE)
+                .addTypeVariables(method.typeVariables)
+                .returns(method.returnType)
+                .addParameters(method.parameters)
+                .addCode(method.code)
+                .build();
+
+        return List.of(wrapper.build(), copy);
+    }
+
+    private enum EntryCall { NONE, SINGLE, BATCH, BATCH_INTO }
+
+    private static EntryCall entryCall(MethodSpec method) {
+        int parameters = method.parameters.size();
+        return switch (method.name) {
+            case "map", "mapNonNull" -> parameters == 1 ? EntryCall.SINGLE : EntryCall.NONE;
+            case "update" -> EntryCall.SINGLE;
+            // mapInto(Iterable, C) delegates to mapAllInto
+            case "mapAllInto" -> EntryCall.BATCH_INTO;
+            case "mapAll" -> EntryCall.BATCH;
+            // the common pool overload delegates to the wrapped one
+            case "mapAllParallel" -> parameters == 3 ? EntryCall.BATCH : EntryCall.NONE;
+            default -> EntryCall.NONE;
+        };
+    }
+
+    private static CodeBlock batchSizeCode(EntryCall call) {
+        return call == EntryCall.BATCH_INTO
+                ? CodeBlock.of("result")
+                : CodeBlock.of("result == null ? 0 : result.size()");
+    }
+
+    // Converter calls are timed by mappers with events or metered converters
+    protected boolean timesConversions() {
+        return events || metering == Metering.CONVERTERS;
+    }
+
+    // Converted values of mappers with events or metered converters are computed into a local by a single call.
+    // The SlowConversionEvent is only created and timed while its event type is enabled in a JFR recording, and the
+    // converter probe only reads the clock while metrics are enabled.
+    protected CodeBlock generateTimedConversionCode(ClassName mapperType, Mapping mapping, List<FieldSpec> fields,
+                                                    CodeBlock.Builder code, CodeBlock retrieveValueCode) {
+        boolean timed = metering == Metering.CONVERTERS;
+        if (mapping.getConverter() == null || !timesConversions()) {
+            return retrieveValueCode;
+        }
+
+        Accessor setter = mapping.getSetter();
+        String local = setter.getName() + "Converted";
+        String event = setter.getName() + "Event";
+        String probe = constantName(setter.getName()) + "_CONVERSION";
+        String start = setter.getName() + "Start";
+
+        if (events) {
+            code.addStatement("$T $L = $T.beginConversion()", SlowConversionEvent.class, event, GraftEvents.class);
+        }
+        if (timed) {
+            fields.add(FieldSpec.builder(ConverterProbe.class, probe, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$T.ENABLED ? METRICS.converter($S) : null", GraftMetrics.class, setter.getName())
+                    .build());
+            code.addStatement("long $L = $T.ENABLED ? $T.nanoTime() : 0L", start, GraftMetrics.class, System.class);
+        }
+        code.addStatement("$T $L = $L", TypeName.get(setter.getValueType()), local, retrieveValueCode);
+        if (timed) {
+            code.beginControlFlow("if ($T.ENABLED)", GraftMetrics.class)
+                    .addStatement("$L.record($T.nanoTime() - $L)", probe, System.class, start)
+                    .endControlFlow();
+        }
+        if (events) {
+            code.addStatement("$T.commitConversion($L, $T.class, $S)", GraftEvents.class, event, mapperType,
+                    setter.getName());
+        }
+
+        return CodeBlock.of("$L", local);
+    }
+
+    // Source values of traced mappers are read into a local once, for the conversion and for the tracer.
+    // The source itself and constants are passed as they are.
+    protected CodeBlock generateTracedSourceCode(Mapping mapping, CodeBlock.Builder code, CodeBlock retrieveValueCode) {
+        Accessor getter = mapping.getGetter();
+        if (!tracing || getter == null || mapping.getConstant() != null) {
+            return retrieveValueCode;
+        }
+
+        String local = mapping.getSetter().getName() + "Source";
+        code.addStatement("$T $L = $L", TypeName.get(getter.getValueType()), local, retrieveValueCode);
+        return CodeBlock.of("$L", local);
+    }
+
+    // The mapped value of traced mappers is read into a local and passed to the tracer with its source value. The
+    // check is on the static final GraftTracing.ENABLED, so the JIT drops the call unless tracing is enabled.
+    protected CodeBlock generateTraceCode(ClassName mapperType, Mapping mapping, CodeBlock.Builder code,
+                                          CodeBlock sourceValueCode, CodeBlock retrieveValueCode) {
+        if (!tracing) {
+            return retrieveValueCode;
+        }
+
+        Accessor setter = mapping.getSetter();
+        String local = setter.getName() + "Value";
+        code.addStatement("$T $L = $L", TypeName.get(setter.getValueType()), local, retrieveValueCode)
+                .beginControlFlow("if ($T.ENABLED)", GraftTracing.class)
+                .addStatement("$T.trace($T.class, $S, $L, $L)", GraftTracing.class, mapperType, setter.getName(),
+                        sourceValueCode, local)
+                .endControlFlow();
+        return CodeBlock.of("$L", local);
+    }
+
+    // e.g. unitPrice to UNIT_PRICE
+    private static String constantName(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+    }
+
+    private static CodeBlock newGraphContextCode(boolean graph) {
+        return graph
+                ? CodeBlock.builder().addStatement("$T ctx = new $T()", GraphContext.class, GraphContext.class).build()
+                : CodeBlock.of("");
+    }
+
+    // Elements are checked for null by the loop
+    private String mapElementCode(boolean graph) {
+        return graph ? "map(element, ctx)" : mapNonNullMethod() + "(element)";
+    }
+
+    // Calls within a metered mapper go to the unmetered copy of mapNonNull(S), their caller is metered already
+    protected String mapNonNullMethod() {
+        return metering.isMetered() ? "mapNonNullUnmetered" : "mapNonNull";
+    }
+
+    // map(S) of graph mappers starts a new graph; map(S, GraphContext) returns the already mapped target if any
+    protected static MethodSpec generateGraphEntryMethod(TypeName srcType, TypeName dstType) {
+        return MethodSpec.methodBuilder("map")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(Override.class)
+                .returns(dstType)
+                .addParameter(srcType, "src")
+                .addStatement("return map(src, new $T())", GraphContext.class)
+                .build();
+    }
+
+    // map(S) of other mappers checks the source for null once and delegates to mapNonNull(S)
+    protected MethodSpec generateNullCheckingEntryMethod(TypeName srcType, TypeName dstType) {
+        return MethodSpec.methodBuilder("map")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addAnnotation(Override.class)
+                .returns(dstType)
+                .addParameter(srcType, "src")
+                .addCode(returnNullIfNullCode("src"))
+                .addStatement("return $L(src)", mapNonNullMethod())
+                .build();
+    }
+
+    // Keyed by target type too, the same source may be mapped to other targets within the graph
+    protected static CodeBlock graphLookupCode(ClassName dstType) {
+        return CodeBlock.builder()
+                .addStatement("$T mapped = ctx.get(src, $T.class)", dstType, dstType)
+                .beginControlFlow("if (mapped != null)")
+                .addStatement("return mapped")
+                .endControlFlow()
+                .build();
+    }
+
+    // Shared stateless instance, used by other generated mappers for nested properties
+    protected static FieldSpec generateInstanceField(ClassName mapperType) {
+        return FieldSpec.builder(mapperType, "INSTANCE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T()", mapperType)
+                .build();
+    }
+
+    protected static CodeBlock generateNestedMapperCode(Mapping mapping, CodeBlock retrieveValueCode) {
+        Fqcn nestedMapper = mapping.getNestedMapper();
+        if (nestedMapper == null) {
+            return retrieveValueCode;
+        }
+
+        ClassName nestedMapperType = ClassName.get(nestedMapper.packageName(), nestedMapper.className());
+        if (mapping.isNestedGraph()) {
+            return CodeBlock.of("$T.INSTANCE.map($L, ctx)", nestedMapperType, retrieveValueCode);
+        }
+        if (mapping.isSourceNonNull()) {
+            return CodeBlock.of("$T.INSTANCE.mapNonNull($L)", nestedMapperType, retrieveValueCode);
+        }
+        return CodeBlock.of("$T.INSTANCE.map($L)", nestedMapperType, retrieveValueCode);
+    }
+
+    // each(...) mappings get a private method that fills a target collection presized from the source in one pass
+    protected static CodeBlock generateElementMappingCode(Mapping mapping, List<MethodSpec> methods, List<FieldSpec> fields,
+                                                          CodeBlock retrieveValueCode) {
+        if (mapping.getElements() == null) {
+            return retrieveValueCode;
+        }
+
+        Accessor getter = mapping.getGetter();
+        Accessor setter = mapping.getSetter();
+        String methodName = "mapEach" + capitalize(setter.getName());
+
+        TypeName srcType = TypeName.get(getter.getValueType());
+        TypeName dstType = TypeName.get(setter.getValueType());
+
+        ElementMapping keys = mapping.getKeys();
+        boolean graph = mapping.getElements().isNestedGraph() || (keys != null && keys.isNestedGraph());
+
+        MethodSpec.Builder method = MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PRIVATE)
+                .returns(dstType)
+                .addParameter(srcType, "src");
+        if (graph) {
+            method.addParameter(GraphContext.class, "ctx");
+        }
+        if (!mapping.isSourceNonNull()) {
+            method.addCode(returnNullIfNullCode("src"));
+        }
+        method.addStatement("$T dst = $L", dstType, newContainerCode(setter.getValueType(), CodeBlock.of("src.size()")));
+
+        ElementMapping elements = mapping.getElements();
+        TypeName elementType = TypeName.get(elements.getSourceType());
+        CodeBlock element = elementCode(elements, setter.getName() + "Element", fields, CodeBlock.of("element"));
+
+        if (keys != null) {
+            TypeName entryType = ParameterizedTypeName.get(ClassName.get(Map.Entry.class),
+                    TypeName.get(keys.getSourceType()), elementType);
+            CodeBlock key = elementCode(keys, setter.getName() + "Key", fields, CodeBlock.of("entry.getKey()"));
+
+            method.beginControlFlow("for ($T entry : src.entrySet())", entryType)
+                    .addStatement("$T element = entry.getValue()", elementType)
+                    .addStatement("dst.put($L, $L)", key, element)
+                    .endControlFlow();
+        } else {
+            TypeName srcListType = ParameterizedTypeName.get(ClassName.get(List.class), elementType);
+
+            boolean list = findSuperclass(getter.getValueType(), List.class, 1).isPresent();
+            boolean collection = declaredTypeMirrorToTypeElement(getter.getValueType())
+                    .filter(te -> te.getQualifiedName().contentEquals(Collection.class.getName()))
+                    .isPresent();
+
+            if (list || collection) {
+                // indexed loop for random access lists, no iterator allocation
+                if (list) {
+                    method.beginControlFlow("if (src instanceof $T)", RandomAccess.class)
+                            .addStatement("$T list = src", srcListType);
+                } else {
+                    method.beginControlFlow("if (src instanceof $T && src instanceof $T)", List.class, RandomAccess.class)
+                            .addStatement("$T list = ($T) src", srcListType, srcListType);
+                }
+
+                method.beginControlFlow("for (int i = 0, size = list.size(); i < size; i++)")
+                        .addStatement("$T element = list.get(i)", elementType)
+                        .addStatement("dst.add($L)", element)
+                        .endControlFlow()
+                        .nextControlFlow("else");
+            }
+
+            method.beginControlFlow("for ($T element : src)", elementType)
+                    .addStatement("dst.add($L)", element)
+                    .endControlFlow();
+
+            if (list || collection) {
+                method.endControlFlow();
+            }
+        }
+
+        methods.add(method.addStatement("return dst").build());
+
+        return graph
+                ? CodeBlock.of("$L($L, ctx)", methodName, retrieveValueCode)
+                : CodeBlock.of("$L($L)", methodName, retrieveValueCode);
+    }
+
+    private static CodeBlock elementCode(ElementMapping elementMapping, String name, List<FieldSpec> fields, CodeBlock value) {
+        if (elementMapping.getNestedMapper() != null) {
+            Fqcn nestedMapper = elementMapping.getNestedMapper();
+            return CodeBlock.of(elementMapping.isNestedGraph() ? "$T.INSTANCE.map($L, ctx)" : "$T.INSTANCE.map($L)",
+                    ClassName.get(nestedMapper.packageName(), nestedMapper.className()), value);
+        }
+
+        MemberRefInfo converter = elementMapping.getConverter();
+        if (converter == null) {
+            return value;
+        }
+
+        TypeName argType = TypeName.get(elementMapping.getSourceType());
+        Optional<CodeBlock> directCall = directInvocationCode(converter, argType, value);
+        if (directCall.isPresent()) {
+            return directCall.get();
+        }
+
+        String converterDefinitionName = name + "Converter";
+        TypeName converterType = ParameterizedTypeName.get(
+                ClassName.get(Function.class),
+                argType.box(),
+                TypeName.get(elementMapping.getTargetType()).box()
+        );
+
+        fields.add(FieldSpec.builder(converterType, converterDefinitionName)
+                .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
+                .initializer("$L", methodRefCode(converter))
+                .build());
+
+        return CodeBlock.of("$L.apply($L)", converterDefinitionName, value);
+    }
+
+    // Instantiates the declared type, or its default implementation for interfaces and abstract classes
+    private static CodeBlock newContainerCode(TypeMirror type, CodeBlock size) {
+        TypeElement typeElement = declaredTypeMirrorToTypeElement(type)
+                .orElseThrow(() -> new IllegalStateException("Type %s is not a declared type".formatted(type)));
+
+        // Unsupported containers are reported by the processor
+        ClassName implementation;
+        if (isAbstract(typeElement)) {
+            implementation = ClassName.get(findDefaultImplementation(typeElement)
+                    .orElseThrow(() -> new IllegalStateException("No default implementation found for %s".formatted(type))));
+        } else if (typeElement.getTypeParameters().isEmpty()) {
+            return CodeBlock.of("new $T()", typeElement);
+        } else {
+            implementation = ClassName.get(typeElement);
+        }
+
+        String name = implementation.reflectionName();
+        if (SIZED_IMPLEMENTATIONS.contains(name)) {
+            return CodeBlock.of("new $T<>($L)", implementation, size);
+        }
+        if (HASHED_IMPLEMENTATIONS.contains(name)) {
+            return CodeBlock.of("new $T<>((int) $T.ceil($L / 0.75d))", implementation, Math.class, size);
+        }
+        return CodeBlock.of("new $T<>()", implementation);
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
     protected static CodeBlock generateConvertCode(MemberRefInfo converter, Accessor setter, Accessor getter, ClassName srcType, List<FieldSpec> fields, CodeBlock retrieveValueCode) {
         if (converter != null) {
+            TypeName argType = getter == null ? srcType : TypeName.get(getter.getValueType());
+
+            // Static, unbound and constructor references are called directly, which avoids boxing
+            // primitive arguments and lets the JIT inline the converter into the mapping method.
+            Optional<CodeBlock> directCall = directInvocationCode(converter, argType, retrieveValueCode);
+            if (directCall.isPresent()) {
+                return directCall.get();
+            }
+
             String converterDefinitionName = setter.getName() + "Converter";
             TypeName converterType = ParameterizedTypeName.get(
                     ClassName.get(Function.class),
-                    getter == null ? srcType : ClassName.get(getter.getValueType()),
-                    ClassName.get(setter.getValueType())
+                    argType.box(),
+                    TypeName.get(setter.getValueType()).box()
             );
 
             FieldSpec converterField = FieldSpec.builder(converterType, converterDefinitionName)
@@ -69,6 +687,39 @@ abstract class MapperGeneratorBase implements MapperGenerator {
         return retrieveValueCode;
     }
 
+    // Primitive and boxed values are converted inline: widening needs no code, a null boxed value mapped to
+    // a primitive gets the configured default, and boxed-to-boxed widening converts through the primitive.
+    protected static CodeBlock generateTypeConversionCode(Mapping mapping, Accessor getter, Accessor setter, CodeBlock retrieveValueCode) {
+        if (getter == null || mapping.getConverter() != null || mapping.isCopy() || mapping.getNestedMapper() != null
+                || mapping.getElements() != null) {
+            return retrieveValueCode;
+        }
+
+        TypeName from = TypeName.get(getter.getValueType());
+        TypeName to = TypeName.get(setter.getValueType());
+        if (from.equals(to)) {
+            return retrieveValueCode;
+        }
+
+        if (from.isPrimitive() && to.isBoxedPrimitive() && !from.equals(to.unbox())) {
+            // e.g. int to Long: widen before boxing
+            return CodeBlock.of("($T) $L", to.unbox(), retrieveValueCode);
+        }
+
+        if (from.isBoxedPrimitive() && to.isPrimitive() && mapping.getNullDefault() != null && !mapping.isSourceNonNull()) {
+            return CodeBlock.of("$L != null ? $L : $L", retrieveValueCode, retrieveValueCode, mapping.getNullDefault());
+        }
+
+        if (from.isBoxedPrimitive() && to.isBoxedPrimitive()) {
+            // e.g. Integer to Long
+            return mapping.isSourceNonNull()
+                    ? CodeBlock.of("($T) $L", to.unbox(), retrieveValueCode)
+                    : CodeBlock.of("$L != null ? ($T) $L : null", retrieveValueCode, to.unbox(), retrieveValueCode);
+        }
+
+        return retrieveValueCode;
+    }
+
     protected static CodeBlock generateCloneCode(TypeElement src, Mapping mapping, Accessor getter, CodeBlock retrieveValueCode) {
         if (mapping.isCopy()) {
             // check if cloneable
@@ -87,10 +738,9 @@ abstract class MapperGeneratorBase implements MapperGenerator {
                 cloneCode = CodeBlock.of("($T) ($L).clone()", srcValueTypeMirror, retrieveValueCode);
             } else if (isCollection(srcValueType) || isMap(srcValueType)) {
                 // Collection or Map with known clone strategy
-                Class<?> implementation = DEFAULT_COLLECTION_IMPLEMENTATIONS.get(getClassForType(srcValueType));
-                if (implementation == null) {
-                    throw new IllegalStateException("Type %s is not Cloneable and no default implementation found".formatted(srcValueType));
-                }
+                Class<?> implementation = declaredTypeMirrorToTypeElement(srcValueType)
+                        .flatMap(Helpers::findDefaultImplementation)
+                        .orElseThrow(() -> new IllegalStateException("Type %s is not Cloneable and no default implementation found".formatted(srcValueType)));
                 cloneCode = CodeBlock.of("new $T<>($L)", implementation, retrieveValueCode);
             } else if (isArray(srcValueType)) {
                 // Array
@@ -99,8 +749,10 @@ abstract class MapperGeneratorBase implements MapperGenerator {
                 throw new IllegalStateException("Type %s is not Cloneable".formatted(srcValueType));
             }
 
-            // wrap with null check
-            retrieveValueCode = CodeBlock.of("($L != null) ? $L : null", retrieveValueCode, cloneCode);
+            // wrap with null check, unless the value cannot be null
+            retrieveValueCode = mapping.isSourceNonNull()
+                    ? cloneCode
+                    : CodeBlock.of("($L != null) ? $L : null", retrieveValueCode, cloneCode);
         }
         return retrieveValueCode;
     }
@@ -126,6 +778,8 @@ abstract class MapperGeneratorBase implements MapperGenerator {
         } else if (getter == null) {
             // src.this
             retrieveValueCode = CodeBlock.of("src");
+        } else if (getter.getType() == Accessor.AccessorType.FIELD) {
+            retrieveValueCode = CodeBlock.of("src.$L", getterMethod);
         } else {
             retrieveValueCode = CodeBlock.of("src.$L()", getterMethod);
         }
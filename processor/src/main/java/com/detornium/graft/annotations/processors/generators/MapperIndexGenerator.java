@@ -0,0 +1,171 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.annotations.processors.generators;
+
+import com.detornium.graft.Mapper;
+import com.detornium.graft.MapperIndex;
+import com.detornium.graft.Mappers;
+import com.detornium.graft.annotations.processors.models.Fqcn;
+import com.detornium.graft.annotations.processors.models.MappingContext;
+import com.squareup.javapoet.*;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.util.Elements;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the {@code GraftMappers} index of all mappers of a compilation and registers it in
+ * {@value Mappers#INDEX_RESOURCE} for {@link Mappers}.
+ */
+public class MapperIndexGenerator {
+    public static final String INDEX_CLASS_NAME = "GraftMappers";
+
+    private final Elements elements;
+    private final String indexName;
+
+    private final Map<Element, String> warnings = new LinkedHashMap<>();
+
+    /**
+     * @param indexName fully qualified name of the index class, or null for a name unique to the mappers
+     */
+    public MapperIndexGenerator(Elements elements, String indexName) {
+        this.elements = elements;
+        this.indexName = indexName;
+    }
+
+    /**
+     * Warnings of the last {@link #generate} call by the spec they concern.
+     */
+    public Map<Element, String> getWarnings() {
+        return warnings;
+    }
+
+    public GeneratorResult generate(List<MappingContext> mappingContexts) {
+        Fqcn indexFqcn = indexFqcn(mappingContexts);
+        ClassName indexType = ClassName.get(indexFqcn.packageName(), indexFqcn.className());
+
+        // Source binary name -> mappings from it, the first spec of a (source, target) pair wins
+        Map<String, Map<String, MappingContext>> bySource = new LinkedHashMap<>();
+        for (MappingContext mappingContext : mappingContexts) {
+            String src = elements.getBinaryName(mappingContext.getSourceType()).toString();
+            String dst = elements.getBinaryName(mappingContext.getTargetType()).toString();
+            MappingContext indexed = bySource.computeIfAbsent(src, k -> new LinkedHashMap<>())
+                    .putIfAbsent(dst, mappingContext);
+            if (indexed != null) {
+                warnings.put(mappingContext.getSpec(), ("%s is not indexed: %s already maps %s to %s, "
+                        + "so Mappers returns that mapper for the pair.").formatted(mapperName(mappingContext),
+                        mapperName(indexed), src, dst));
+            }
+        }
+
+        // A string switch on the source class name is a hash lookup, class literals are only resolved on a hit
+        CodeBlock.Builder body = CodeBlock.builder().beginControlFlow("switch (src.getName())");
+        for (Map.Entry<String, Map<String, MappingContext>> entry : bySource.entrySet()) {
+            body.add("case $S:\n$>", entry.getKey());
+            for (MappingContext mappingContext : entry.getValue().values()) {
+                Fqcn mapper = mappingContext.getMapperType();
+                body.beginControlFlow("if (dst == $T.class)", ClassName.get(mappingContext.getTargetType()))
+                        .addStatement("return $T.INSTANCE", ClassName.get(mapper.packageName(), mapper.className()))
+                        .endControlFlow();
+            }
+            body.addStatement("return null").add("$<");
+        }
+        body.add("default:\n$>").addStatement("return null").add("$<").endControlFlow();
+
+        TypeName mapperType = ParameterizedTypeName.get(ClassName.get(Mapper.class),
+                WildcardTypeName.subtypeOf(Object.class), WildcardTypeName.subtypeOf(Object.class));
+        TypeName classType = ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class));
+
+        // Aggregating output, it originates from every spec of the compilation
+        Element[] specs = mappingContexts.stream().map(MappingContext::getSpec).toArray(Element[]::new);
+
+        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(indexType);
+        for (Element spec : specs) {
+            typeBuilder.addOriginatingElement(spec);
+        }
+
+        TypeSpec type = typeBuilder
+                .addSuperinterface(MapperIndex.class)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addMethod(MethodSpec.methodBuilder("find")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(Override.class)
+                        .returns(mapperType)
+                        .addParameter(classType, "src")
+                        .addParameter(classType, "dst")
+                        .addCode(body.build())
+                        .build())
+                .build();
+
+        JavaFile javaFile = JavaFile.builder(indexFqcn.packageName(), type)
+                .indent("  ")
+                .build();
+
+        return filer -> {
+            javaFile.writeTo(filer);
+
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", Mappers.INDEX_RESOURCE, specs);
+            try (Writer writer = resource.openWriter()) {
+                writer.write(indexType.reflectionName() + System.lineSeparator());
+            }
+        };
+    }
+
+    // The graft.index option, or GraftMappers in the mappers' common package. Without the option the name is suffixed
+    // with a hash of the mapper names, so indexes of different jars do not clash even in a shared package.
+    private Fqcn indexFqcn(List<MappingContext> mappingContexts) {
+        if (indexName != null && !indexName.isBlank()) {
+            int dot = indexName.lastIndexOf('.');
+            return new Fqcn(dot < 0 ? "" : indexName.substring(0, dot), indexName.substring(dot + 1));
+        }
+
+        int hash = mappingContexts.stream()
+                .map(MapperIndexGenerator::mapperName)
+                .sorted()
+                .toList()
+                .hashCode();
+        return new Fqcn(commonPackage(mappingContexts), INDEX_CLASS_NAME + "_" + Integer.toHexString(hash));
+    }
+
+    private static String mapperName(MappingContext mappingContext) {
+        Fqcn mapper = mappingContext.getMapperType();
+        return mapper.packageName().isEmpty() ? mapper.className() : mapper.packageName() + "." + mapper.className();
+    }
+
+    // Longest package prefix shared by all generated mappers
+    private static String commonPackage(List<MappingContext> mappingContexts) {
+        String common = null;
+        for (MappingContext mappingContext : mappingContexts) {
+            String packageName = mappingContext.getMapperType().packageName();
+            if (common == null) {
+                common = packageName;
+                continue;
+            }
+            while (!common.isEmpty() && !(packageName.equals(common) || packageName.startsWith(common + "."))) {
+                int dot = common.lastIndexOf('.');
+                common = dot < 0 ? "" : common.substring(0, dot);
+            }
+        }
+        return common == null ? "" : common;
+    }
+}
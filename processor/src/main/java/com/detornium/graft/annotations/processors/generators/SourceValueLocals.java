@@ -0,0 +1,143 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.annotations.processors.generators;
+
+import com.detornium.graft.annotations.processors.models.Accessor;
+import com.detornium.graft.annotations.processors.models.ConstantValue;
+import com.detornium.graft.annotations.processors.models.Mapping;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeName;
+
+import java.util.*;
+
+/**
+ * Optimisation stage between mapping resolution and emission: a source getter whose value is used more than once
+ * in a map body, by several target properties or by the null check of a copy or boxed conversion, is read once
+ * into a local, e.g. {@code String srcName = src.getName();}. Each getter is still called at most once, so lazy
+ * or computed getters are evaluated once per mapped object.
+ */
+class SourceValueLocals {
+
+    private final Set<String> hoisted = new HashSet<>();  // getter methods read into locals
+    private final Set<String> declared = new HashSet<>(); // locals already declared in the body
+
+    SourceValueLocals(List<Mapping> mappings) {
+        Map<String, Integer> uses = new HashMap<>();
+        for (Mapping mapping : mappings) {
+            if (isSourceValueMapping(mapping)) {
+                uses.merge(mapping.getGetter().getMethodName(), valueUses(mapping), Integer::sum);
+            }
+        }
+
+        uses.forEach((getterMethod, count) -> {
+            if (count > 1) {
+                hoisted.add(getterMethod);
+            }
+        });
+    }
+
+    /**
+     * Orders mappings so that the ones reading the same hoisted getter are emitted together, right after the local
+     * is declared, which keeps the local short-lived. Other mappings keep their order.
+     */
+    List<Mapping> schedule(List<Mapping> mappings) {
+        return groups(mappings).stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    // Scheduled mappings, grouped by the local they share; a group must be emitted into one method
+    List<List<Mapping>> groups(List<Mapping> mappings) {
+        Map<String, List<Mapping>> groups = new LinkedHashMap<>();
+        List<List<Mapping>> ordered = new ArrayList<>();
+
+        for (Mapping mapping : mappings) {
+            if (isHoisted(mapping)) {
+                List<Mapping> group = groups.get(mapping.getGetter().getMethodName());
+                if (group == null) {
+                    group = new ArrayList<>();
+                    groups.put(mapping.getGetter().getMethodName(), group);
+                    ordered.add(group);
+                }
+                group.add(mapping);
+            } else {
+                ordered.add(List.of(mapping));
+            }
+        }
+
+        return ordered;
+    }
+
+    // Declares the local on the first use of a hoisted getter, empty otherwise
+    CodeBlock declarationCode(Mapping mapping) {
+        if (!isHoisted(mapping) || !declared.add(mapping.getGetter().getMethodName())) {
+            return CodeBlock.of("");
+        }
+
+        Accessor getter = mapping.getGetter();
+        return CodeBlock.builder()
+                .addStatement("$T $L = $L", TypeName.get(getter.getValueType()), localName(getter),
+                        MapperGeneratorBase.generateValueRetrievalCode(null, getter, getter.getMethodName()))
+                .build();
+    }
+
+    CodeBlock valueCode(ConstantValue constantSrc, Accessor getter, String getterMethod) {
+        if (constantSrc == null && getter != null && hoisted.contains(getterMethod)) {
+            return CodeBlock.of("$L", localName(getter));
+        }
+        return MapperGeneratorBase.generateValueRetrievalCode(constantSrc, getter, getterMethod);
+    }
+
+    private boolean isHoisted(Mapping mapping) {
+        return isSourceValueMapping(mapping) && hoisted.contains(mapping.getGetter().getMethodName());
+    }
+
+    private static boolean isSourceValueMapping(Mapping mapping) {
+        return !mapping.isExclude() && mapping.getSetter() != null
+                && mapping.getConstant() == null && mapping.getGetter() != null;
+    }
+
+    // e.g. srcName, cannot clash with src, dst, ctx or converter fields
+    private static String localName(Accessor getter) {
+        return "src" + Character.toUpperCase(getter.getName().charAt(0)) + getter.getName().substring(1);
+    }
+
+    // Copies and null-checked boxed conversions repeat the value expression, see generateCloneCode and
+    // generateTypeConversionCode
+    private static int valueUses(Mapping mapping) {
+        if (mapping.isSourceNonNull()) {
+            return 1;
+        }
+        if (mapping.isCopy()) {
+            return 2;
+        }
+        if (mapping.getConverter() != null || mapping.getNestedMapper() != null || mapping.getElements() != null) {
+            return 1;
+        }
+
+        TypeName from = TypeName.get(mapping.getGetter().getValueType());
+        TypeName to = TypeName.get(mapping.getSetter().getValueType());
+        if (from.equals(to) || !from.isBoxedPrimitive()) {
+            return 1;
+        }
+        if (to.isBoxedPrimitive() || (to.isPrimitive() && mapping.getNullDefault() != null)) {
+            return 2;
+        }
+        return 1;
+    }
+}
@@ -25,7 +25,7 @@ import javax.lang.model.type.TypeMirror;
 @AllArgsConstructor
 public class Accessor {
     private final String name;
-    private final String methodName;
+    private final String methodName; // field name for FIELD accessors
     private final TypeMirror valueType;
     private final AccessorType type;
 
@@ -33,6 +33,8 @@ public class Accessor {
         GETTER,
         SETTER,
         FIELD,
-        RECORD_FIELD
+        RECORD_FIELD,
+        CONSTRUCTOR_PARAMETER,
+        BUILDER_METHOD
     }
 }
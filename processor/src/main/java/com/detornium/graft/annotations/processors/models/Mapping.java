@@ -26,4 +26,11 @@ public class Mapping {
     private MemberRefInfo converter; // raw expr for converting(...) or null
     private boolean exclude;  // when exclude(setter)
     private boolean copy;     // when copy()
+    private String nullDefault; // literal used when a null boxed value is mapped to a primitive setter
+    private boolean nested;   // when nested()
+    private Fqcn nestedMapper; // generated mapper used for the value, e.g. CustomerToCustomerDtoMapper
+    private boolean nestedGraph; // nested mapper shares the graph context of this one
+    private ElementMapping elements; // when each(...): collection elements or map values
+    private ElementMapping keys;     // when each(...) on a map
+    private boolean sourceNonNull; // source value cannot be null: primitive, src itself or annotated @NonNull
 }
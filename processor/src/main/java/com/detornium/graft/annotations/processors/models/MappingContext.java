@@ -15,6 +15,7 @@
  */
 package com.detornium.graft.annotations.processors.models;
 
+import com.detornium.graft.annotations.UnboxingDefaults;
 import lombok.Builder;
 import lombok.Data;
 
@@ -30,4 +31,10 @@ public class MappingContext {
     private boolean processed;
     private boolean ignoreUnmapped;
     private boolean disableAutoMapping;
+    private UnboxingDefaults unboxingDefaults;
+    private boolean graph;
+    private Metering metering;
+    private boolean tracing;
+    private boolean events;
+    private Accessor.AccessorType targetAccessorType; // how target properties are written, set once types are complete
 }
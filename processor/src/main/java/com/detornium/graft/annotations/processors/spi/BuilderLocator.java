@@ -0,0 +1,39 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.annotations.processors.spi;
+
+import javax.lang.model.element.TypeElement;
+import java.util.Optional;
+
+/**
+ * Tells the processor how a target type names its builder methods, e.g. from the attributes of Lombok's
+ * {@code @Builder}. Without a locator, or when none recognises the type, builders are detected by shape:
+ * a public static no-args factory returning a type with a no-args method that returns the target.
+ */
+public interface BuilderLocator {
+
+    Optional<BuilderMethods> findBuilderMethods(TypeElement type);
+
+    /**
+     * @param factoryMethod static method creating the builder, e.g. {@code builder}
+     * @param buildMethod   builder method creating the target, e.g. {@code build}
+     * @param setterPrefix  prefix of the builder property methods, e.g. {@code with}, or empty
+     */
+    record BuilderMethods(String factoryMethod, String buildMethod, String setterPrefix) {
+    }
+}
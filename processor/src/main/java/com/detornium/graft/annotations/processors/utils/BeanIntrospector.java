@@ -17,13 +17,18 @@
 package com.detornium.graft.annotations.processors.utils;
 
 import com.detornium.graft.annotations.processors.models.Accessor;
+import com.detornium.graft.annotations.processors.models.BuilderInfo;
+import com.detornium.graft.annotations.processors.spi.BuilderLocator.BuilderMethods;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
-import java.util.List;
+import javax.lang.model.util.Types;
+import java.util.*;
+import java.util.stream.Collectors;
 
 public class BeanIntrospector {
 
@@ -36,41 +41,81 @@ public class BeanIntrospector {
     private static final String BOOLEAN_GETTER_PREFIX = "is";
     private static final int BOOLEAN_GETTER_PREFIX_LENGTH = BOOLEAN_GETTER_PREFIX.length();
 
+    // Referenced by name, java.beans is not required on the processor path
+    private static final String CONSTRUCTOR_PROPERTIES = "java.beans.ConstructorProperties";
+
+    // Nullness guarantees, matched by qualified name: validation constraints such as Bean Validation's @NotNull are
+    // checked after the fact and do not make a value non-null. Nullable annotations are matched by simple name, a
+    // false match only keeps a null check.
+    private static final Set<String> NON_NULL_ANNOTATIONS = Set.of(
+            "lombok.NonNull",
+            "org.jspecify.annotations.NonNull",
+            "javax.annotation.Nonnull",
+            "jakarta.annotation.Nonnull",
+            "org.jetbrains.annotations.NotNull",
+            "org.checkerframework.checker.nullness.qual.NonNull",
+            "edu.umd.cs.findbugs.annotations.NonNull",
+            "org.eclipse.jdt.annotation.NonNull",
+            "androidx.annotation.NonNull");
+    private static final Set<String> NULLABLE_ANNOTATIONS = Set.of("Nullable", "CheckForNull");
+
+    private static final String DEFAULT_BUILDER_FACTORY = "builder";
+    private static final String DEFAULT_BUILD_METHOD = "build";
+
     private final Elements elements;
+    private final Types types;
+
+    // Per-compilation caches: specs share source and target types, and getAccessor is called for every property
+    // a spec references, so members are walked once per type instead of once per spec and property
+    private final Map<TypeElement, List<? extends Element>> members = new HashMap<>();
+    private final Map<TypeElement, Map<String, String>> fieldNames = new HashMap<>(); // lowercase name -> field name
+    private final Map<TypeElement, List<Accessor>> getters = new HashMap<>();
+    private final Map<TypeElement, List<Accessor>> setters = new HashMap<>();
+    private final Map<TypeElement, Map<Class<?>, Boolean>> supertypes = new HashMap<>();
+    private final TypeElement objectElement;
 
     public BeanIntrospector(ProcessingEnvironment env) {
         this.elements = env.getElementUtils();
+        this.types = env.getTypeUtils();
+        this.objectElement = elements.getTypeElement(Object.class.getCanonicalName());
     }
 
     public List<Accessor> getAccessors(TypeElement beanType, Accessor.AccessorType type) {
         return switch (type) {
             case GETTER -> getGetters(beanType);
             case SETTER -> getSetters(beanType);
-            case FIELD -> getFieldAccessors(beanType); // TODO check if needed
+            case FIELD -> getFieldAccessors(beanType, packageOf(beanType), false);
             case RECORD_FIELD -> getRecordAccessors(beanType);
+            case CONSTRUCTOR_PARAMETER -> getConstructorAccessors(beanType, packageOf(beanType));
+            case BUILDER_METHOD -> findBuilder(beanType, null).map(BuilderInfo::properties).orElse(List.of());
         };
     }
 
     public Accessor getAccessor(ExecutableElement executableElement, Accessor.AccessorType type) {
-        List<String> fieldNames = getAllFieldNames((TypeElement) executableElement.getEnclosingElement());
+        Map<String, String> fieldNames = getAllFieldNames((TypeElement) executableElement.getEnclosingElement());
 
         return switch (type) {
             case GETTER -> getterMethodToAccessor(executableElement, fieldNames);
             case SETTER -> setterMethodToAccessor(executableElement, fieldNames);
-            case FIELD -> throw new UnsupportedOperationException("Not implemented yet");
+            case FIELD -> methodToFieldAccessor(executableElement, fieldNames);
             case RECORD_FIELD -> recordGetterToAccessor(executableElement, fieldNames);
+            case CONSTRUCTOR_PARAMETER, BUILDER_METHOD -> isGetter(executableElement)
+                    ? targetProperty(getterMethodToAccessor(executableElement, fieldNames), type)
+                    : targetProperty(recordGetterToAccessor(executableElement, fieldNames), type);
         };
     }
 
     private List<Accessor> getGetters(TypeElement beanType) {
-        List<String> fieldNames = getAllFieldNames(beanType);
-
-        return elements.getAllMembers(beanType).stream()
-                .filter(this::isPublicNonStaticMethod)
-                .map(ExecutableElement.class::cast)
-                .filter(this::isGetter)
-                .map(e -> getterMethodToAccessor(e, fieldNames))
-                .toList();
+        return getters.computeIfAbsent(beanType, t -> {
+            Map<String, String> fieldNames = getAllFieldNames(t);
+
+            return getAllMembers(t).stream()
+                    .filter(this::isPublicNonStaticMethod)
+                    .map(ExecutableElement.class::cast)
+                    .filter(this::isGetter)
+                    .map(e -> getterMethodToAccessor(e, fieldNames))
+                    .toList();
+        });
     }
 
     private boolean isGetter(ExecutableElement element) {
@@ -94,11 +139,10 @@ public class BeanIntrospector {
 
     // Exclude methods from java.lang.Object e.g. getClass(), toString(), hashCode(), etc.
     private boolean isObjectClassMethod(ExecutableElement element) {
-        TypeElement objectElement = elements.getTypeElement(Object.class.getCanonicalName());
         return element.getEnclosingElement().equals(objectElement);
     }
 
-    private Accessor getterMethodToAccessor(ExecutableElement element, List<String> fieldNames) {
+    private Accessor getterMethodToAccessor(ExecutableElement element, Map<String, String> fieldNames) {
         String methodName = element.getSimpleName().toString();
 
         String name = methodName.startsWith(GETTER_PREFIX)
@@ -113,14 +157,16 @@ public class BeanIntrospector {
     }
 
     private List<Accessor> getSetters(TypeElement beanType) {
-        List<String> fieldNames = getAllFieldNames(beanType);
-
-        return elements.getAllMembers(beanType).stream()
-                .filter(this::isPublicNonStaticMethod)
-                .map(ExecutableElement.class::cast)
-                .filter(this::isSetter)
-                .map(e -> setterMethodToAccessor(e, fieldNames))
-                .toList();
+        return setters.computeIfAbsent(beanType, t -> {
+            Map<String, String> fieldNames = getAllFieldNames(t);
+
+            return getAllMembers(t).stream()
+                    .filter(this::isPublicNonStaticMethod)
+                    .map(ExecutableElement.class::cast)
+                    .filter(this::isSetter)
+                    .map(e -> setterMethodToAccessor(e, fieldNames))
+                    .toList();
+        });
     }
 
     private boolean isSetter(ExecutableElement element) {
@@ -132,7 +178,7 @@ public class BeanIntrospector {
                 && !element.getModifiers().contains(Modifier.STATIC);
     }
 
-    private Accessor setterMethodToAccessor(ExecutableElement element, List<String> fieldNames) {
+    private Accessor setterMethodToAccessor(ExecutableElement element, Map<String, String> fieldNames) {
         String methodName = element.getSimpleName().toString();
 
         String name = findBestMatchingFieldName(decapitalize(methodName.substring(SETTER_PREFIX_LENGTH)), fieldNames);
@@ -147,19 +193,26 @@ public class BeanIntrospector {
                 && !element.getModifiers().contains(Modifier.STATIC);
     }
 
-    private List<String> getAllFieldNames(TypeElement beanType) {
-        return elements.getAllMembers(beanType).stream()
-                .filter(e -> e.getKind() == ElementKind.FIELD)
-                .map(e -> e.getSimpleName().toString())
-                .toList();
+    // Field names indexed by their lowercase form, the first declared field wins
+    private Map<String, String> getAllFieldNames(TypeElement beanType) {
+        return fieldNames.computeIfAbsent(beanType, t -> {
+            Map<String, String> names = new HashMap<>();
+            for (Element member : getAllMembers(t)) {
+                if (member.getKind() == ElementKind.FIELD) {
+                    String name = member.getSimpleName().toString();
+                    names.putIfAbsent(name.toLowerCase(Locale.ROOT), name);
+                }
+            }
+            return names;
+        });
     }
 
+    private List<? extends Element> getAllMembers(TypeElement beanType) {
+        return members.computeIfAbsent(beanType, elements::getAllMembers);
+    }
 
-    private String findBestMatchingFieldName(String name, List<String> fieldNames) {
-        return fieldNames.stream()
-                .filter(f -> f.equalsIgnoreCase(name))
-                .findFirst()
-                .orElse(name);
+    private String findBestMatchingFieldName(String name, Map<String, String> fieldNames) {
+        return fieldNames.getOrDefault(name.toLowerCase(Locale.ROOT), name);
     }
 
     private String decapitalize(String str) {
@@ -172,8 +225,292 @@ public class BeanIntrospector {
         return Character.toLowerCase(str.charAt(0)) + str.substring(1);
     }
 
-    private List<Accessor> getFieldAccessors(TypeElement beanType) {
-        throw new UnsupportedOperationException("Not implemented yet");
+    /**
+     * Getters, plus fields readable from the given package for properties without a getter.
+     */
+    public List<Accessor> getReadAccessors(TypeElement beanType, String packageName) {
+        return withFieldAccessors(getGetters(beanType), getFieldAccessors(beanType, packageName, false));
+    }
+
+    /**
+     * Setters, or the non-final fields writable from the given package if the bean has no setters at all.
+     * Fields of a bean with setters are not targets, so they never become properties that must be mapped.
+     */
+    public List<Accessor> getWriteAccessors(TypeElement beanType, String packageName) {
+        List<Accessor> setters = getSetters(beanType);
+        return setters.isEmpty() ? getFieldAccessors(beanType, packageName, true) : setters;
+    }
+
+    private static List<Accessor> withFieldAccessors(List<Accessor> methodAccessors, List<Accessor> fieldAccessors) {
+        Set<String> names = methodAccessors.stream()
+                .map(Accessor::getName)
+                .collect(Collectors.toSet());
+
+        List<Accessor> result = new ArrayList<>(methodAccessors);
+        fieldAccessors.stream()
+                .filter(f -> !names.contains(f.getName()))
+                .forEach(result::add);
+        return result;
+    }
+
+    // Non-static, non-transient fields the generated mapper in the given package can access directly
+    private List<Accessor> getFieldAccessors(TypeElement beanType, String packageName, boolean writable) {
+        return getAllMembers(beanType).stream()
+                .filter(e -> e.getKind() == ElementKind.FIELD)
+                .map(VariableElement.class::cast)
+                .filter(f -> !f.getModifiers().contains(Modifier.STATIC))
+                .filter(f -> !f.getModifiers().contains(Modifier.TRANSIENT))
+                .filter(f -> !writable || !f.getModifiers().contains(Modifier.FINAL))
+                .filter(f -> isAccessibleFrom(f, packageName))
+                .map(this::fieldToAccessor)
+                .toList();
+    }
+
+    // Protected members count as package-private: the mapper is not a subclass of the bean
+    private boolean isAccessibleFrom(Element member, String packageName) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !modifiers.contains(Modifier.PRIVATE) && packageOf(member).equals(packageName);
+    }
+
+    private Accessor fieldToAccessor(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        return new Accessor(name, name, field.asType(), Accessor.AccessorType.FIELD);
+    }
+
+    // The field backing the property of a getter or setter method
+    private Accessor methodToFieldAccessor(ExecutableElement element, Map<String, String> fieldNames) {
+        Accessor property = isSetter(element)
+                ? setterMethodToAccessor(element, fieldNames)
+                : getterMethodToAccessor(element, fieldNames);
+
+        return getAllMembers((TypeElement) element.getEnclosingElement()).stream()
+                .filter(e -> e.getKind() == ElementKind.FIELD && e.getSimpleName().contentEquals(property.getName()))
+                .map(VariableElement.class::cast)
+                .map(this::fieldToAccessor)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No field found for property '%s' of %s"
+                        .formatted(property.getName(), element.getSimpleName())));
+    }
+
+    /**
+     * Finds the constructor that creates an immutable non-record target in a single call: a constructor
+     * annotated with {@code @ConstructorProperties}, or else a constructor whose parameter names all match
+     * fields of the class. Only constructors accessible from the given package are considered, and the one with
+     * the most parameters wins. Classes with an accessible no-args constructor are mapped through setters instead.
+     */
+    public Optional<ExecutableElement> findMappingConstructor(TypeElement beanType, String packageName) {
+        if (beanType.getKind() != ElementKind.CLASS || beanType.getModifiers().contains(Modifier.ABSTRACT)) {
+            return Optional.empty();
+        }
+
+        List<ExecutableElement> constructors = beanType.getEnclosedElements().stream()
+                .filter(e -> e.getKind() == ElementKind.CONSTRUCTOR && isAccessibleFrom(e, packageName))
+                .map(ExecutableElement.class::cast)
+                .toList();
+
+        if (constructors.stream().anyMatch(c -> c.getParameters().isEmpty())) {
+            return Optional.empty();
+        }
+
+        Optional<ExecutableElement> annotated = constructors.stream()
+                .filter(c -> constructorPropertyNames(c).isPresent())
+                .max(Comparator.comparingInt(c -> c.getParameters().size()));
+        if (annotated.isPresent()) {
+            return annotated;
+        }
+
+        Set<String> fieldNames = getAllMembers(beanType).stream()
+                .filter(e -> e.getKind() == ElementKind.FIELD)
+                .map(e -> e.getSimpleName().toString())
+                .collect(Collectors.toSet());
+        return constructors.stream()
+                .filter(c -> c.getParameters().stream().allMatch(p -> fieldNames.contains(p.getSimpleName().toString())))
+                .max(Comparator.comparingInt(c -> c.getParameters().size()));
+    }
+
+    public List<Accessor> getConstructorAccessors(TypeElement beanType, String packageName) {
+        return findMappingConstructor(beanType, packageName)
+                .map(this::constructorParametersToAccessors)
+                .orElse(List.of());
+    }
+
+    /**
+     * Finds the builder of an immutable target: a public static no-args factory method returning a builder type
+     * that has a public no-args method returning the target. Builder property methods take one argument, return
+     * the builder and are named after a field of the target, optionally with a lowercase prefix such as
+     * {@code with}. Methods of other shapes, e.g. {@code @Singular} adders, are ignored.
+     *
+     * @param names method names given by a {@code BuilderLocator}, or null to use {@code builder()} and
+     *              {@code build()} when present and any factory and build method otherwise
+     */
+    public Optional<BuilderInfo> findBuilder(TypeElement beanType, BuilderMethods names) {
+        if (beanType.getKind() != ElementKind.CLASS) {
+            return Optional.empty();
+        }
+
+        String preferredFactory = names == null ? DEFAULT_BUILDER_FACTORY : names.factoryMethod();
+        Optional<ExecutableElement> factory = beanType.getEnclosedElements().stream()
+                .filter(e -> e.getKind() == ElementKind.METHOD)
+                .map(ExecutableElement.class::cast)
+                .filter(m -> m.getModifiers().containsAll(Set.of(Modifier.PUBLIC, Modifier.STATIC))
+                        && m.getParameters().isEmpty()
+                        && m.getReturnType() instanceof DeclaredType)
+                .filter(m -> names == null || m.getSimpleName().contentEquals(names.factoryMethod()))
+                .filter(m -> findBuildMethod(m.getReturnType(), beanType, names).isPresent())
+                .min(Comparator.comparing(m -> !m.getSimpleName().contentEquals(preferredFactory)));
+
+        if (factory.isEmpty()) {
+            return Optional.empty();
+        }
+
+        TypeMirror builderType = factory.get().getReturnType();
+        ExecutableElement buildMethod = findBuildMethod(builderType, beanType, names).orElseThrow();
+
+        List<ExecutableElement> builderMethods = getAllMembers((TypeElement) types.asElement(builderType)).stream()
+                .filter(this::isPublicNonStaticMethod)
+                .map(ExecutableElement.class::cast)
+                .filter(m -> m.getParameters().size() == 1 && types.isSameType(types.erasure(m.getReturnType()), types.erasure(builderType)))
+                .toList();
+
+        List<Accessor> properties = new ArrayList<>();
+        for (String fieldName : getInstanceFieldNames(beanType)) {
+            findBuilderMethod(builderMethods, fieldName, names == null ? null : names.setterPrefix())
+                    .map(m -> new Accessor(fieldName, m.getSimpleName().toString(), m.getParameters().get(0).asType(),
+                            Accessor.AccessorType.BUILDER_METHOD))
+                    .ifPresent(properties::add);
+        }
+
+        return Optional.of(new BuilderInfo(factory.get().getSimpleName().toString(),
+                buildMethod.getSimpleName().toString(), properties));
+    }
+
+    private Optional<ExecutableElement> findBuildMethod(TypeMirror builderType, TypeElement beanType, BuilderMethods names) {
+        String preferred = names == null ? DEFAULT_BUILD_METHOD : names.buildMethod();
+        return getAllMembers((TypeElement) types.asElement(builderType)).stream()
+                .filter(this::isPublicNonStaticMethod)
+                .map(ExecutableElement.class::cast)
+                .filter(m -> m.getParameters().isEmpty()
+                        && types.isSameType(types.erasure(m.getReturnType()), types.erasure(beanType.asType())))
+                .filter(m -> names == null || m.getSimpleName().contentEquals(names.buildMethod()))
+                .min(Comparator.comparing(m -> !m.getSimpleName().contentEquals(preferred)));
+    }
+
+    // e.g. amount(long), or withAmount(long) for the "with" prefix; any lowercase prefix if it is not known
+    private Optional<ExecutableElement> findBuilderMethod(List<ExecutableElement> builderMethods, String fieldName, String prefix) {
+        String capitalized = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        Optional<ExecutableElement> exact = builderMethods.stream()
+                .filter(m -> m.getSimpleName().contentEquals(prefix == null || prefix.isEmpty() ? fieldName : prefix + capitalized))
+                .findFirst();
+        if (exact.isPresent() || prefix != null) {
+            return exact;
+        }
+
+        return builderMethods.stream()
+                .filter(m -> {
+                    String name = m.getSimpleName().toString();
+                    return name.endsWith(capitalized) && name.length() > capitalized.length()
+                            && name.substring(0, name.length() - capitalized.length()).chars().allMatch(Character::isLowerCase);
+                })
+                .findFirst();
+    }
+
+    private List<String> getInstanceFieldNames(TypeElement beanType) {
+        return beanType.getEnclosedElements().stream()
+                .filter(e -> e.getKind() == ElementKind.FIELD && !e.getModifiers().contains(Modifier.STATIC))
+                .map(e -> e.getSimpleName().toString())
+                .toList();
+    }
+
+    public boolean isCloneable(TypeMirror tm) {
+        return isSubtype(tm, Cloneable.class, 0);
+    }
+
+    public boolean isMap(TypeMirror tm) {
+        return isSubtype(tm, Map.class, 2);
+    }
+
+    public boolean isCollection(TypeMirror tm) {
+        return isSubtype(tm, Collection.class, 1);
+    }
+
+    private boolean isSubtype(TypeMirror tm, Class<?> superclass, int typeArgsCount) {
+        return Helpers.declaredTypeMirrorToTypeElement(tm)
+                .map(te -> supertypes.computeIfAbsent(te, t -> new HashMap<>())
+                        .computeIfAbsent(superclass, c -> Helpers.findSuperclass(te, c, typeArgsCount).isPresent()))
+                .orElse(false);
+    }
+
+    /**
+     * Tells whether a value read through the getter can never be null: primitives, and properties whose getter,
+     * backing field or record component (or their types) carry a non-null annotation and no nullable one.
+     */
+    public boolean isNonNull(TypeElement beanType, Accessor getter) {
+        if (getter.getValueType().getKind().isPrimitive()) {
+            return true;
+        }
+
+        List<AnnotationMirror> annotations = new ArrayList<>();
+        for (Element member : getAllMembers(beanType)) {
+            if (member.getKind() == ElementKind.FIELD && member.getSimpleName().contentEquals(getter.getName())) {
+                annotations.addAll(member.getAnnotationMirrors());
+                annotations.addAll(member.asType().getAnnotationMirrors());
+            } else if (member instanceof ExecutableElement method && member.getKind() == ElementKind.METHOD
+                    && method.getParameters().isEmpty() && method.getSimpleName().contentEquals(getter.getMethodName())) {
+                annotations.addAll(method.getAnnotationMirrors());
+                annotations.addAll(method.getReturnType().getAnnotationMirrors());
+            }
+        }
+        for (RecordComponentElement component : beanType.getRecordComponents()) {
+            if (component.getSimpleName().contentEquals(getter.getName())) {
+                annotations.addAll(component.getAnnotationMirrors());
+            }
+        }
+
+        List<TypeElement> types = annotations.stream()
+                .map(a -> (TypeElement) a.getAnnotationType().asElement())
+                .toList();
+        return types.stream().anyMatch(t -> NON_NULL_ANNOTATIONS.contains(t.getQualifiedName().toString()))
+                && types.stream().noneMatch(t -> NULLABLE_ANNOTATIONS.contains(t.getSimpleName().toString()));
+    }
+
+    private String packageOf(Element element) {
+        return elements.getPackageOf(element).getQualifiedName().toString();
+    }
+
+    private List<Accessor> constructorParametersToAccessors(ExecutableElement constructor) {
+        List<? extends VariableElement> parameters = constructor.getParameters();
+        List<String> names = constructorPropertyNames(constructor)
+                .orElseGet(() -> parameters.stream().map(p -> p.getSimpleName().toString()).toList());
+
+        List<Accessor> accessors = new ArrayList<>();
+        for (int i = 0; i < parameters.size(); i++) {
+            String name = names.get(i);
+            accessors.add(new Accessor(name, name, parameters.get(i).asType(), Accessor.AccessorType.CONSTRUCTOR_PARAMETER));
+        }
+        return accessors;
+    }
+
+    // Property names from @ConstructorProperties, if present and matching the parameter count
+    private Optional<List<String>> constructorPropertyNames(ExecutableElement constructor) {
+        return constructor.getAnnotationMirrors().stream()
+                .filter(a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().contentEquals(CONSTRUCTOR_PROPERTIES))
+                .findFirst()
+                .flatMap(a -> a.getElementValues().entrySet().stream()
+                        .filter(e -> e.getKey().getSimpleName().contentEquals("value"))
+                        .map(e -> (List<?>) e.getValue().getValue())
+                        .findFirst())
+                .map(values -> values.stream()
+                        .map(v -> (String) ((AnnotationValue) v).getValue())
+                        .toList())
+                .filter(names -> names.size() == constructor.getParameters().size());
+    }
+
+    // A target property referenced in the DSL through its getter, e.g. Money::getAmount or Money::amount
+    private Accessor targetProperty(Accessor getter, Accessor.AccessorType type) {
+        return new Accessor(getter.getName(), getter.getName(), getter.getValueType(), type);
     }
 
     private List<Accessor> getRecordAccessors(TypeElement beanType) {
@@ -197,7 +534,7 @@ public class BeanIntrospector {
     }
 
     // TODO: generated, review
-    private Accessor recordGetterToAccessor(ExecutableElement element, List<String> fieldNames) {
+    private Accessor recordGetterToAccessor(ExecutableElement element, Map<String, String> fieldNames) {
         String methodName = element.getSimpleName().toString();
 
         String name = findBestMatchingFieldName(methodName, fieldNames);
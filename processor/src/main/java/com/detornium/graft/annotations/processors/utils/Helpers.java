@@ -18,20 +18,40 @@ package com.detornium.graft.annotations.processors.utils;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.MirroredTypeException;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import java.lang.annotation.Annotation;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Optional;
-import java.util.Queue;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 public final class Helpers {
 
+    // Implementations created for interface and abstract container types, by qualified name of the declared type
+    private static final Map<String, Class<?>> DEFAULT_COLLECTION_IMPLEMENTATIONS = Map.ofEntries(
+            // List
+            Map.entry(List.class.getName(), ArrayList.class),
+            Map.entry(Collection.class.getName(), ArrayList.class),
+
+            // Set
+            Map.entry(Set.class.getName(), HashSet.class),
+            Map.entry(SortedSet.class.getName(), TreeSet.class),
+            Map.entry(NavigableSet.class.getName(), TreeSet.class),
+
+            // Map
+            Map.entry(WeakHashMap.class.getName(), WeakHashMap.class),
+            Map.entry(Map.class.getName(), HashMap.class),
+            Map.entry(ConcurrentHashMap.class.getName(), ConcurrentHashMap.class),
+            Map.entry(ConcurrentMap.class.getName(), ConcurrentHashMap.class),
+            Map.entry(SortedMap.class.getName(), TreeMap.class),
+            Map.entry(NavigableMap.class.getName(), TreeMap.class)
+    );
+
     private Helpers() {
     }
 
@@ -71,6 +91,14 @@ public final class Helpers {
                 .isPresent();
     }
 
+    public static boolean isAbstract(TypeElement type) {
+        return type.getKind().isInterface() || type.getModifiers().contains(Modifier.ABSTRACT);
+    }
+
+    public static Optional<Class<?>> findDefaultImplementation(TypeElement type) {
+        return Optional.ofNullable(DEFAULT_COLLECTION_IMPLEMENTATIONS.get(type.getQualifiedName().toString()));
+    }
+
     public static boolean isArray(TypeMirror tm) {
         return tm.getKind() == TypeKind.ARRAY;
     }
@@ -16,21 +16,34 @@
 
 package com.detornium.graft.annotations.processors.utils;
 
+import com.detornium.graft.annotations.UnboxingDefaults;
 import com.detornium.graft.annotations.processors.models.Accessor;
 import com.detornium.graft.annotations.processors.models.Mapping;
 
-import java.util.ArrayList;
-import java.util.List;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.*;
+import java.util.function.BiPredicate;
 
 public final class MappingUtils {
 
     private MappingUtils() {
     }
 
-    public static List<Mapping> createAutoMappings(List<Accessor> getters, List<Accessor> setters) {
+    /**
+     * Maps every setter to the getter of the same name when its type is mappable. Getters are indexed by name, so
+     * only same-name candidates are type-checked and matching stays linear for beans with thousands of properties.
+     */
+    public static List<Mapping> createAutoMappings(List<Accessor> getters, List<Accessor> setters,
+                                                   BiPredicate<TypeMirror, TypeMirror> isMappable) {
+        Map<String, List<Accessor>> gettersByName = new HashMap<>();
+        for (Accessor getter : getters) {
+            gettersByName.computeIfAbsent(getter.getName(), k -> new ArrayList<>(1)).add(getter);
+        }
+
         List<Mapping> mappings = new ArrayList<>();
         for (Accessor setter : setters) {
-            Accessor getter = getterForSetter(setter, getters);
+            Accessor getter = getterForSetter(setter, gettersByName.getOrDefault(setter.getName(), List.of()), isMappable);
             if (getter == null) {
                 continue;
             }
@@ -43,44 +56,98 @@ public final class MappingUtils {
         return mappings;
     }
 
-    private static Accessor getterForSetter(Accessor setter, List<Accessor> getters) {
-        return getters.stream()
-                .filter(g -> g.getValueType().equals(setter.getValueType()))
-                .filter(g -> g.getName().equals(setter.getName()))
-                .findFirst()
-                .orElse(null);
+    // Candidates share the setter name
+    private static Accessor getterForSetter(Accessor setter, List<Accessor> candidates, BiPredicate<TypeMirror, TypeMirror> isMappable) {
+        for (Accessor getter : candidates) {
+            if (isMappable.test(getter.getValueType(), setter.getValueType())) {
+                return getter;
+            }
+        }
+        return null;
     }
 
+    // Auto mappings of properties that are mapped explicitly are dropped
     public static List<Mapping> mergeMappings(List<Mapping> explicit, List<Mapping> auto) {
-        List<Mapping> result = new ArrayList<>(explicit);
+        Set<String> explicitNames = setterNames(explicit);
+
+        List<Mapping> result = new ArrayList<>(explicit.size() + auto.size());
+        result.addAll(explicit);
         for (Mapping am : auto) {
-            boolean found = false;
-            for (Mapping em : explicit) {
-                if (am.getSetter() != null && em.getSetter() != null &&
-                        am.getSetter().getName().equals(em.getSetter().getName())) {
-                    found = true;
-                    break;
-                }
+            if (am.getSetter() == null || !explicitNames.contains(am.getSetter().getName())) {
+                result.add(am);
             }
-            if (!found) result.add(am);
         }
         return result;
     }
 
     public static List<String> findUnmappedFields(List<Mapping> mappings, List<Accessor> accessors) {
+        Set<String> mappedNames = setterNames(mappings);
+
         List<String> unmapped = new ArrayList<>();
         for (Accessor acc : accessors) {
-            boolean found = false;
-            for (Mapping m : mappings) {
-                if (m.getSetter() != null && acc.getName().equals(m.getSetter().getName())) {
-                    found = true;
-                    break;
-                }
+            if (!mappedNames.contains(acc.getName())) {
+                unmapped.add(acc.getName());
             }
-            if (!found) unmapped.add(acc.getName());
         }
 
         return unmapped;
     }
 
+    private static Set<String> setterNames(List<Mapping> mappings) {
+        Set<String> names = new HashSet<>(mappings.size() * 2);
+        for (Mapping m : mappings) {
+            if (m.getSetter() != null) {
+                names.add(m.getSetter().getName());
+            }
+        }
+        return names;
+    }
+
+    // A boxed source value mapped to a primitive target property needs a value for null
+    public static void assignUnboxingDefaults(List<Mapping> mappings, UnboxingDefaults defaults) {
+        for (Mapping m : mappings) {
+            if (m.isExclude() || m.getGetter() == null || m.getSetter() == null
+                    || m.getConverter() != null || m.isCopy() || m.isNested() || m.getElements() != null) {
+                continue;
+            }
+
+            TypeMirror getterType = m.getGetter().getValueType();
+            TypeMirror setterType = m.getSetter().getValueType();
+            if (!getterType.getKind().isPrimitive() && setterType.getKind().isPrimitive()) {
+                m.setNullDefault(unboxingDefaultLiteral(setterType.getKind(), defaults));
+            }
+        }
+    }
+
+    private static String unboxingDefaultLiteral(TypeKind kind, UnboxingDefaults defaults) {
+        return switch (kind) {
+            case BOOLEAN -> String.valueOf(defaults != null && defaults.booleanValue());
+            case CHAR -> "(char) " + (defaults == null ? 0 : (int) defaults.charValue());
+            case BYTE -> "(byte) " + (defaults == null ? 0 : defaults.byteValue());
+            case SHORT -> "(short) " + (defaults == null ? 0 : defaults.shortValue());
+            case INT -> String.valueOf(defaults == null ? 0 : defaults.intValue());
+            case LONG -> (defaults == null ? 0L : defaults.longValue()) + "L";
+            case FLOAT -> floatLiteral(defaults == null ? 0f : defaults.floatValue());
+            case DOUBLE -> doubleLiteral(defaults == null ? 0d : defaults.doubleValue());
+            default -> throw new IllegalArgumentException("Not a primitive type: " + kind);
+        };
+    }
+
+    private static String floatLiteral(float value) {
+        if (Float.isNaN(value)) {
+            return "Float.NaN";
+        } else if (Float.isInfinite(value)) {
+            return value > 0 ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY";
+        }
+        return value + "f";
+    }
+
+    private static String doubleLiteral(double value) {
+        if (Double.isNaN(value)) {
+            return "Double.NaN";
+        } else if (Double.isInfinite(value)) {
+            return value > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+        }
+        return value + "d";
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.annotations.processors.utils;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.*;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.*;
+
+public class TypeConversions {
+
+    private final Types types;
+    private final Elements elements;
+
+    public TypeConversions(ProcessingEnvironment env) {
+        this.types = env.getTypeUtils();
+        this.elements = env.getElementUtils();
+    }
+
+    /**
+     * Checks if a value can be mapped without a user converter: the same type, or primitive and boxed types
+     * related by identity, primitive widening, boxing or unboxing (e.g. int to long, Integer to int,
+     * float to Double). Narrowing conversions are never applied automatically.
+     */
+    public boolean isAutoConvertible(TypeMirror from, TypeMirror to) {
+        if (types.isSameType(from, to)) {
+            return true;
+        }
+
+        Optional<PrimitiveType> fromPrimitive = primitiveOf(from);
+        Optional<PrimitiveType> toPrimitive = primitiveOf(to);
+        if (fromPrimitive.isEmpty() || toPrimitive.isEmpty()) {
+            return false;
+        }
+
+        // subtyping among primitive types is the JLS widening primitive conversion
+        return types.isSubtype(fromPrimitive.get(), toPrimitive.get());
+    }
+
+    /**
+     * Resolves the type arguments of a generic supertype as seen from the given type, e.g. {@code [String, Car]}
+     * for {@code TreeMap<String, Car>} and {@code java.util.Map}. Wildcards are replaced by their upper bound.
+     * Returns empty if the type does not extend the supertype or uses it as a raw type.
+     */
+    public Optional<List<TypeMirror>> supertypeArguments(TypeMirror type, Class<?> supertype) {
+        TypeElement supertypeElement = elements.getTypeElement(supertype.getCanonicalName());
+        if (supertypeElement == null) {
+            return Optional.empty();
+        }
+
+        Deque<TypeMirror> queue = new ArrayDeque<>(List.of(type));
+        while (!queue.isEmpty()) {
+            TypeMirror current = queue.poll();
+            if (current instanceof DeclaredType dt && dt.asElement().equals(supertypeElement)) {
+                if (dt.getTypeArguments().isEmpty()) {
+                    return Optional.empty();
+                }
+                return Optional.of(dt.getTypeArguments().stream()
+                        .map(this::upperBound)
+                        .toList());
+            }
+            queue.addAll(types.directSupertypes(current));
+        }
+
+        return Optional.empty();
+    }
+
+    private TypeMirror upperBound(TypeMirror type) {
+        if (type instanceof WildcardType wt) {
+            return wt.getExtendsBound() != null
+                    ? wt.getExtendsBound()
+                    : elements.getTypeElement(Object.class.getCanonicalName()).asType();
+        }
+        return type;
+    }
+
+    private Optional<PrimitiveType> primitiveOf(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return Optional.of((PrimitiveType) type);
+        }
+
+        try {
+            return Optional.of(types.unboxedType(type));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.models;
+
+// Counts getter calls, so tests can check each getter is called once per mapping
+public class Reading {
+    private Integer value;
+    private int[] samples;
+    private int reads;
+
+    public Integer getValue() {
+        reads++;
+        return value;
+    }
+
+    public void setValue(Integer value) {
+        this.value = value;
+    }
+
+    public int[] getSamples() {
+        reads++;
+        return samples;
+    }
+
+    public void setSamples(int[] samples) {
+        this.samples = samples;
+    }
+
+    public int getReads() {
+        return reads;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.models;
+
+import lombok.Data;
+
+// Wide enough for the generated mapInto body to be split into chunks
+@Data
+public class WideBean {
+    private String field0;
+    private String field1;
+    private String field2;
+    private String field3;
+    private String field4;
+    private String field5;
+    private String field6;
+    private String field7;
+    private String field8;
+    private String field9;
+    private String field10;
+    private String field11;
+    private String field12;
+    private String field13;
+    private String field14;
+    private String field15;
+    private String field16;
+    private String field17;
+    private String field18;
+    private String field19;
+    private String field20;
+    private String field21;
+    private String field22;
+    private String field23;
+    private String field24;
+    private String field25;
+    private String field26;
+    private String field27;
+    private String field28;
+    private String field29;
+    private String field30;
+    private String field31;
+    private String field32;
+    private String field33;
+    private String field34;
+    private String field35;
+    private String field36;
+    private String field37;
+    private String field38;
+    private String field39;
+    private String field40;
+    private String field41;
+    private String field42;
+    private String field43;
+    private String field44;
+    private String field45;
+    private String field46;
+    private String field47;
+    private String field48;
+    private String field49;
+    private String field50;
+    private String field51;
+    private String field52;
+    private String field53;
+    private String field54;
+    private String field55;
+    private String field56;
+    private String field57;
+    private String field58;
+    private String field59;
+}
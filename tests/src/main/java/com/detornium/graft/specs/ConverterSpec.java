@@ -0,0 +1,37 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+package com.detornium.graft.specs;
+
+import com.detornium.graft.MappingDsl;
+import com.detornium.graft.annotations.MappingSpec;
+import com.detornium.graft.models.ConverterTestBean;
+import com.detornium.graft.models.ConverterTestDto;
+
+import java.math.BigDecimal;
+
+@MappingSpec(com.detornium.graft.mappers.ConverterTestMapper.class)
+public class ConverterSpec extends MappingDsl<ConverterTestBean, ConverterTestDto> {
+    {
+        map(ConverterTestBean::getCount).converting(Integer::toHexString).to(ConverterTestDto::setCountHex);
+        map(ConverterTestBean::getName).converting(String::length).to(ConverterTestDto::setNameLength);
+        map(ConverterTestBean::getAmount).converting(BigDecimal::new).to(ConverterTestDto::setAmount);
+        self().converting(ConverterSpec::label).to(ConverterTestDto::setLabel);
+    }
+
+    public static String label(ConverterTestBean bean) {
+        return "%s x%d".formatted(bean.getName(), bean.getCount());
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.specs;
+
+import com.detornium.graft.MappingDsl;
+import com.detornium.graft.annotations.MappingSpec;
+import com.detornium.graft.annotations.Metered;
+import com.detornium.graft.models.Sensor;
+import com.detornium.graft.models.SensorDto;
+
+@Metered(converters = true)
+@MappingSpec(com.detornium.graft.mappers.SensorToSensorDtoMapper.class)
+public class SensorToSensorDtoSpec extends MappingDsl<Sensor, SensorDto> {
+    {
+        map(Sensor::getReading).converting(String::valueOf).to(SensorDto::setReading);
+        map(Sensor::getUnit).converting(String::toUpperCase).to(SensorDto::setUnit);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.annotations.processors.utils;
+
+import com.detornium.graft.annotations.processors.models.Accessor;
+import com.detornium.graft.annotations.processors.models.Mapping;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Synthetic beans far wider than real ones: auto-mapping must stay linear in the number of properties
+class WideAutoMappingTest {
+
+    private static final int WIDTH = 100_000;
+
+    private static List<Accessor> accessors(String prefix, Accessor.AccessorType type) {
+        return accessors(prefix, type, new AtomicInteger());
+    }
+
+    // Property names are what mappings are matched by, so their reads count the matching work
+    private static List<Accessor> accessors(String prefix, Accessor.AccessorType type, AtomicInteger nameReads) {
+        List<Accessor> accessors = new ArrayList<>(WIDTH);
+        for (int i = 0; i < WIDTH; i++) {
+            accessors.add(new Accessor("property" + i, prefix + "Property" + i, null, type) {
+                @Override
+                public String getName() {
+                    nameReads.incrementAndGet();
+                    return super.getName();
+                }
+            });
+        }
+        return accessors;
+    }
+
+    @Test
+    void testTypesCheckedOncePerSetter() {
+        List<Accessor> getters = accessors("get", Accessor.AccessorType.GETTER);
+        List<Accessor> setters = accessors("set", Accessor.AccessorType.SETTER);
+        AtomicInteger checks = new AtomicInteger();
+
+        List<Mapping> mappings = MappingUtils.createAutoMappings(getters, setters, (from, to) -> {
+            checks.incrementAndGet();
+            return true;
+        });
+
+        assertEquals(WIDTH, mappings.size());
+        assertEquals(WIDTH, checks.get());
+        assertEquals("getProperty42", mappings.get(42).getGetter().getMethodName());
+    }
+
+    @Test
+    void testMergeAndUnmappedDetectionAreLinear() {
+        AtomicInteger nameReads = new AtomicInteger();
+        List<Accessor> getters = accessors("get", Accessor.AccessorType.GETTER, nameReads);
+        List<Accessor> setters = accessors("set", Accessor.AccessorType.SETTER, nameReads);
+        List<Mapping> auto = MappingUtils.createAutoMappings(getters, setters, (from, to) -> true);
+        List<Mapping> explicit = auto.subList(0, WIDTH / 2).stream()
+                .map(m -> {
+                    Mapping mapping = new Mapping();
+                    mapping.setSetter(m.getSetter());
+                    mapping.setExclude(true);
+                    return mapping;
+                })
+                .toList();
+
+        // Nested scans would read names about WIDTH * WIDTH / 2 times, lookups a few times per property
+        nameReads.set(0);
+        List<Mapping> merged = MappingUtils.mergeMappings(explicit, auto);
+        assertEquals(WIDTH, merged.size());
+        assertTrue(merged.get(0).isExclude());
+        assertFalse(merged.get(WIDTH - 1).isExclude());
+        assertTrue(nameReads.get() <= 2 * WIDTH, "names read " + nameReads.get() + " times");
+
+        nameReads.set(0);
+        assertTrue(MappingUtils.findUnmappedFields(merged, setters).isEmpty());
+        assertEquals(WIDTH / 2, MappingUtils.findUnmappedFields(explicit, setters).size());
+        assertTrue(nameReads.get() <= 4 * WIDTH, "names read " + nameReads.get() + " times");
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.jfr;
+
+import com.detornium.graft.mappers.CarToCarDtoMapper;
+import com.detornium.graft.mappers.CarToCarDtoRecordedMapper;
+import com.detornium.graft.models.Car;
+import com.detornium.graft.models.CarDto;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappingEventsTest {
+
+    @TempDir
+    Path dir;
+
+    private static Car car(String model) {
+        Car car = new Car();
+        car.setModel(model);
+        car.setVersion(1);
+        return car;
+    }
+
+    private List<RecordedEvent> record(Runnable mapping) throws IOException {
+        Path file = dir.resolve("mapping.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MappingBatchEvent.class);
+            recording.enable(SlowConversionEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            mapping.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .toList();
+    }
+
+    @Test
+    void testBatchEvents() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            CarToCarDtoRecordedMapper.INSTANCE.mapAll(List.of(car("Tesla"), car("Camry")));
+            CarToCarDtoRecordedMapper.INSTANCE.mapInto(List.of(car("Golf")), new ArrayList<>(List.of(new CarDto())));
+        });
+
+        List<RecordedEvent> batches = events(events, "com.detornium.graft.MappingBatch");
+        assertEquals(2, batches.size());
+        assertEquals(CarToCarDtoRecordedMapper.class.getName(), batches.get(0).getClass("mapper").getName());
+        assertEquals(2, batches.get(0).getInt("count"));
+        assertEquals(1, batches.get(1).getInt("count"));
+    }
+
+    @Test
+    void testBatchEventCountsAddedElements() throws IOException {
+        Set<CarDto> dtos = new HashSet<>();
+        List<RecordedEvent> events = record(() ->
+                CarToCarDtoRecordedMapper.INSTANCE.mapInto(List.of(car("Golf"), car("Golf")), dtos));
+
+        List<RecordedEvent> batches = events(events, "com.detornium.graft.MappingBatch");
+        assertEquals(1, dtos.size());
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).getInt("count"));
+    }
+
+    @Test
+    void testSlowConversionEvents() throws IOException {
+        List<RecordedEvent> events = record(() -> CarToCarDtoRecordedMapper.INSTANCE.map(car("Tesla")));
+
+        List<String> properties = events(events, "com.detornium.graft.SlowConversion").stream()
+                .map(e -> e.getString("property"))
+                .sorted()
+                .toList();
+        assertEquals(List.of("description", "version"), properties);
+        assertTrue(events(events, "com.detornium.graft.MappingBatch").isEmpty());
+    }
+
+    @Test
+    void testMappersWithoutEvents() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            CarToCarDtoMapper.INSTANCE.map(car("Tesla"));
+            CarToCarDtoMapper.INSTANCE.mapAll(List.of(car("Camry")));
+        });
+
+        assertTrue(events(events, "com.detornium.graft.MappingBatch").isEmpty());
+        assertTrue(events(events, "com.detornium.graft.SlowConversion").isEmpty());
+    }
+}
@@ -0,0 +1,430 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.GraphContext;
+import com.detornium.graft.models.*;
+import com.detornium.graft.specs.CarToCarDtoMapperSpec;
+import com.detornium.graft.specs.CarToCarDtoRecordMapperSpec;
+import com.detornium.graft.specs.ConverterSpec;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static com.detornium.graft.mappers.AllocationMeter.assertAllocatesAtMost;
+
+/**
+ * Allocation budgets of the generated mappers: each mapper may allocate only what the equivalent hand-written code
+ * allocates, i.e. its target and the values it converts or copies. Numbers are outside the box caches, so every
+ * boxing shows up.
+ */
+class AllocationBudgetTest {
+
+    private static Car car() {
+        Car car = new Car();
+        car.setColor("Red");
+        car.setModel("Tesla");
+        car.setVersion(1000);
+        car.setPrevOwners(List.of("Alice", "Bob"));
+        return car;
+    }
+
+    private static Address address(String street) {
+        Address address = new Address();
+        address.setStreet(street);
+        address.setCity("Lviv");
+        return address;
+    }
+
+    private static Payment payment() {
+        Payment payment = new Payment();
+        payment.setAmount(1000);
+        payment.setCurrency("eur");
+        payment.setNote("paid");
+        return payment;
+    }
+
+    private static CopyTestBean copyTestBean() {
+        CopyTestBean bean = new CopyTestBean();
+        bean.setObject(new CloneableObject("a", "b"));
+        bean.setList(new ArrayList<>(List.of("a", "b", "c")));
+        bean.setSet(new HashSet<>(Set.of(1000, 2000)));
+        bean.setSortedSet(new TreeSet<>(Set.of(1000, 2000)));
+        bean.setMap(new HashMap<>(Map.of("k", "v")));
+        bean.setConcurrentMap(new ConcurrentHashMap<>(Map.of("k", "v")));
+        bean.setSortedMap(new TreeMap<>(Map.of("k", "v")));
+        bean.setNavigableMap(new TreeMap<>(Map.of("k", "v")));
+        bean.setArray(new int[]{1, 2, 3});
+        return bean;
+    }
+
+    // Copies made by copy() of every CopyTestBean property
+    private static List<Supplier<?>> copies(CopyTestBean bean) {
+        return List.of(
+                () -> bean.getObject().clone(),
+                () -> new ArrayList<>(bean.getList()),
+                () -> new HashSet<>(bean.getSet()),
+                () -> new TreeSet<>(bean.getSortedSet()),
+                () -> new HashMap<>(bean.getMap()),
+                () -> new ConcurrentHashMap<>(bean.getConcurrentMap()),
+                () -> new TreeMap<>(bean.getSortedMap()),
+                () -> new TreeMap<>(bean.getNavigableMap()),
+                () -> bean.getArray().clone());
+    }
+
+    private static Supplier<?>[] budget(Supplier<?> target, List<Supplier<?>> values) {
+        List<Supplier<?>> budget = new ArrayList<>(values);
+        budget.add(0, target);
+        return budget.toArray(Supplier<?>[]::new);
+    }
+
+    @Test
+    void carToCarDto() {
+        Car car = car();
+        assertAllocatesAtMost("CarToCarDtoMapper", () -> CarToCarDtoMapper.INSTANCE.map(car),
+                CarDto::new,
+                () -> String.valueOf(car.getVersion()),
+                () -> CarToCarDtoMapperSpec.carToDescription(car));
+    }
+
+    @Test
+    void carToCarDtoRecord() {
+        Car car = car();
+        assertAllocatesAtMost("CarToCarDtoRecordMapper", () -> CarToCarDtoRecordMapper.INSTANCE.map(car),
+                () -> new CarDtoRecord(null, null, null, null, null, null),
+                () -> String.valueOf(car.getVersion()),
+                () -> CarToCarDtoRecordMapperSpec.carToDescription(car));
+    }
+
+    @Test
+    void ignoredAndDisabledMappings() {
+        Car car = car();
+        assertAllocatesAtMost("IgnoreUnmappedMapper", () -> IgnoreUnmappedMapper.INSTANCE.map(car),
+                CarDto::new);
+        assertAllocatesAtMost("IgnoreUnmappedRecordMapper", () -> IgnoreUnmappedRecordMapper.INSTANCE.map(car),
+                () -> new CarDtoRecord(null, null, null, null, null, null));
+        assertAllocatesAtMost("DisableAutoMappingMapper", () -> DisableAutoMappingMapper.INSTANCE.map(car),
+                Car::new);
+    }
+
+    @Test
+    void converters() {
+        ConverterTestBean bean = new ConverterTestBean();
+        bean.setCount(1000);
+        bean.setName("widget");
+        bean.setAmount("12.50");
+
+        assertAllocatesAtMost("ConverterTestMapper", () -> ConverterTestMapper.INSTANCE.map(bean),
+                ConverterTestDto::new,
+                () -> Integer.toHexString(bean.getCount()),
+                () -> new BigDecimal(bean.getAmount()),
+                () -> ConverterSpec.label(bean));
+    }
+
+    @Test
+    void numericConversions() {
+        NumericBean bean = new NumericBean();
+        bean.setIntValue(1000);
+        bean.setBoxedInt(1000);
+        bean.setRatio(1.5f);
+        bean.setLetter('x');
+        bean.setSmall((short) 1000);
+        bean.setCode(2000);
+        bean.setCount(3000);
+
+        // Only the Long properties of the target are boxed
+        assertAllocatesAtMost("NumericConversionMapper", () -> NumericConversionMapper.INSTANCE.map(bean),
+                NumericDto::new,
+                () -> Long.valueOf(bean.getSmall()),
+                () -> Long.valueOf(bean.getCode()));
+        assertAllocatesAtMost("NumericConversionRecordMapper", () -> NumericConversionRecordMapper.INSTANCE.map(bean),
+                () -> new NumericDtoRecord(0, 0, 0, null, 0),
+                () -> Long.valueOf(bean.getCode()));
+    }
+
+    @Test
+    void copies() {
+        CopyTestBean bean = copyTestBean();
+        assertAllocatesAtMost("CopyTestMapper", () -> CopyTestMapper.INSTANCE.map(bean),
+                budget(CopyTestDto::new, copies(bean)));
+        assertAllocatesAtMost("CopyToRecordTestMapper", () -> CopyToRecordTestMapper.INSTANCE.map(bean),
+                budget(() -> new CopyTestDtoRecord(null, null, null, null, null, null, null, null, null), copies(bean)));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void rawCollectionCopies() {
+        RawCollectionsBean bean = new RawCollectionsBean();
+        bean.setList(new ArrayList(List.of("a", "b")));
+        bean.setSet(new HashSet(Set.of(1000)));
+        bean.setMap(new HashMap(Map.of("k", "v")));
+
+        assertAllocatesAtMost("CopyRawCollectionsMapper", () -> CopyRawCollectionsMapper.INSTANCE.map(bean),
+                RawCollectionsBean::new,
+                () -> new ArrayList(bean.getList()),
+                () -> new HashSet(bean.getSet()),
+                () -> new HashMap(bean.getMap()));
+    }
+
+    @Test
+    void specificCollectionCopies() {
+        SpecificCollectionsBean bean = new SpecificCollectionsBean();
+        bean.setArrayList(new ArrayList<>(List.of("a", "b")));
+        bean.setLinkedList(new LinkedList<>(List.of("a", "b")));
+        bean.setVector(new Vector<>(List.of("a", "b")));
+        bean.setCopyOnWriteArrayList(new CopyOnWriteArrayList<>(List.of("a", "b")));
+        bean.setHashSet(new HashSet<>(Set.of(1000)));
+        bean.setLinkedHashSet(new LinkedHashSet<>(Set.of(1000)));
+        bean.setTreeSet(new TreeSet<>(Set.of(1000)));
+        bean.setEnumSet(EnumSet.of(DayOfWeek.MONDAY));
+        bean.setConcurrentSkipListSet(new ConcurrentSkipListSet<>(Set.of(1000)));
+        bean.setHashMap(new HashMap<>(Map.of("k", "v")));
+        bean.setLinkedHashMap(new LinkedHashMap<>(Map.of("k", "v")));
+        bean.setTreeMap(new TreeMap<>(Map.of("k", "v")));
+        bean.setIdentityHashMap(new IdentityHashMap<>(Map.of("k", "v")));
+        bean.setEnumMap(new EnumMap<>(Map.of(DayOfWeek.MONDAY, "v")));
+        bean.setWeakHashMap(new WeakHashMap<>(Map.of("k", "v")));
+        bean.setConcurrentHashMap(new ConcurrentHashMap<>(Map.of("k", "v")));
+        bean.setConcurrentSkipListMap(new ConcurrentSkipListMap<>(Map.of("k", "v")));
+
+        assertAllocatesAtMost("SpecificCollectionsBeanMapper", () -> SpecificCollectionsBeanMapper.INSTANCE.map(bean),
+                SpecificCollectionsBean::new,
+                () -> bean.getArrayList().clone(),
+                () -> bean.getLinkedList().clone(),
+                () -> bean.getVector().clone(),
+                () -> bean.getCopyOnWriteArrayList().clone(),
+                () -> bean.getHashSet().clone(),
+                () -> bean.getLinkedHashSet().clone(),
+                () -> bean.getTreeSet().clone(),
+                () -> bean.getEnumSet().clone(),
+                () -> bean.getConcurrentSkipListSet().clone(),
+                () -> bean.getHashMap().clone(),
+                () -> bean.getLinkedHashMap().clone(),
+                () -> bean.getTreeMap().clone(),
+                () -> bean.getIdentityHashMap().clone(),
+                () -> bean.getEnumMap().clone(),
+                () -> new WeakHashMap<>(bean.getWeakHashMap()),
+                () -> new ConcurrentHashMap<>(bean.getConcurrentHashMap()),
+                () -> bean.getConcurrentSkipListMap().clone());
+    }
+
+    @Test
+    void nestedMappers() {
+        Customer customer = new Customer();
+        customer.setName("Alice");
+        customer.setAddress(address("Main"));
+        Order order = new Order();
+        order.setId("o-1");
+        order.setCustomer(customer);
+
+        assertAllocatesAtMost("AddressToAddressDtoMapper", () -> AddressToAddressDtoMapper.INSTANCE.map(customer.getAddress()),
+                () -> new AddressDto(null, null));
+        assertAllocatesAtMost("CustomerToCustomerDtoMapper", () -> CustomerToCustomerDtoMapper.INSTANCE.map(customer),
+                CustomerDto::new,
+                () -> new AddressDto(null, null));
+        assertAllocatesAtMost("OrderToOrderDtoMapper", () -> OrderToOrderDtoMapper.INSTANCE.map(order),
+                OrderDto::new,
+                CustomerDto::new,
+                () -> new AddressDto(null, null));
+    }
+
+    @Test
+    void elementMappers() {
+        Branch branch = new Branch();
+        branch.setOffices(List.of(address("Main"), address("Side")));
+        branch.setOfficesByCode(Map.of("M", address("Main")));
+        branch.setTags(Set.of("north"));
+        branch.setStock(Map.of("bolts", 1000));
+
+        assertAllocatesAtMost("BranchToBranchDtoMapper", () -> BranchToBranchDtoMapper.INSTANCE.map(branch),
+                BranchDto::new,
+                () -> {
+                    List<AddressDto> offices = new ArrayList<>(2);
+                    offices.add(new AddressDto(null, null));
+                    offices.add(new AddressDto(null, null));
+                    return offices;
+                },
+                () -> {
+                    Map<String, AddressDto> offices = new HashMap<>(2);
+                    for (Map.Entry<String, Address> entry : branch.getOfficesByCode().entrySet()) {
+                        offices.put(entry.getKey(), new AddressDto(null, null));
+                    }
+                    return offices;
+                },
+                () -> {
+                    List<String> labels = new ArrayList<>(1);
+                    for (String tag : branch.getTags()) {
+                        labels.add(tag.strip());
+                    }
+                    return labels;
+                },
+                () -> {
+                    TreeMap<String, Long> stock = new TreeMap<>();
+                    for (Map.Entry<String, Integer> entry : branch.getStock().entrySet()) {
+                        stock.put(entry.getKey().trim(), entry.getValue().longValue());
+                    }
+                    return stock;
+                });
+        assertAllocatesAtMost("BranchToBranchDtoRecordMapper", () -> BranchToBranchDtoRecordMapper.INSTANCE.map(branch),
+                () -> new BranchDtoRecord(null, null),
+                () -> {
+                    Set<AddressDto> offices = new HashSet<>(3);
+                    offices.add(new AddressDto("Main", "Lviv"));
+                    offices.add(new AddressDto("Side", "Lviv"));
+                    return offices;
+                },
+                () -> {
+                    LinkedHashMap<String, AddressDto> offices = new LinkedHashMap<>(2);
+                    for (Map.Entry<String, Address> entry : branch.getOfficesByCode().entrySet()) {
+                        offices.put(entry.getKey(), new AddressDto(null, null));
+                    }
+                    return offices;
+                });
+    }
+
+    @Test
+    void nonNullValues() {
+        Shipment shipment = new Shipment();
+        shipment.setOrigin(address("Main"));
+        shipment.setTags(new ArrayList<>(List.of("fragile")));
+        shipment.setWeight(1000);
+        shipment.setVolume(2000);
+        Parcel parcel = new Parcel(new int[]{1, 2, 3}, "box");
+
+        assertAllocatesAtMost("ShipmentToShipmentDtoMapper", () -> ShipmentToShipmentDtoMapper.INSTANCE.map(shipment),
+                ShipmentDto::new,
+                () -> new ArrayList<>(shipment.getTags()),
+                () -> new AddressDto(null, null),
+                () -> Long.valueOf(shipment.getWeight()),
+                () -> Long.valueOf(shipment.getVolume()));
+        assertAllocatesAtMost("ParcelToParcelDtoMapper", () -> ParcelToParcelDtoMapper.INSTANCE.map(parcel),
+                ParcelDto::new,
+                () -> parcel.sizes().clone());
+    }
+
+    @Test
+    void sourceValueLocals() {
+        Reading reading = new Reading();
+        reading.setValue(1000);
+        reading.setSamples(new int[]{1, 2, 3});
+
+        assertAllocatesAtMost("ReadingToReadingDtoMapper", () -> ReadingToReadingDtoMapper.INSTANCE.map(reading),
+                ReadingDto::new,
+                () -> String.valueOf(reading.getValue()),
+                () -> reading.getSamples().clone());
+    }
+
+    @Test
+    void fieldAccess() {
+        Quote quote = new Quote();
+        quote.id = 1000;
+        quote.price = 12.5;
+        quote.setVenue("XETRA");
+
+        assertAllocatesAtMost("QuoteToQuoteDtoPublicMapper", () -> QuoteToQuoteDtoPublicMapper.INSTANCE.map(quote),
+                QuoteDto::new);
+        assertAllocatesAtMost("models.QuoteToQuoteDtoMapper", () -> com.detornium.graft.models.QuoteToQuoteDtoMapper.INSTANCE.map(quote),
+                QuoteDto::new);
+    }
+
+    @Test
+    void immutableTargets() {
+        Payment payment = payment();
+
+        assertAllocatesAtMost("PaymentToMoneyMapper", () -> PaymentToMoneyMapper.INSTANCE.map(payment),
+                () -> new Money(0, null));
+        assertAllocatesAtMost("PaymentToInvoiceMapper", () -> PaymentToInvoiceMapper.INSTANCE.map(payment),
+                () -> Invoice.builder().amount(payment.getAmount()).currency("EUR").build(),
+                () -> payment.getCurrency().toUpperCase());
+        // The all-args constructor is package-private; the Lombok builder has the same fields as Invoice
+        assertAllocatesAtMost("models.PaymentToInvoiceMapper", () -> com.detornium.graft.models.PaymentToInvoiceMapper.INSTANCE.map(payment),
+                Invoice::builder);
+        assertAllocatesAtMost("PaymentToReceiptMapper", () -> PaymentToReceiptMapper.INSTANCE.map(payment),
+                () -> Receipt.newReceipt().withTotal(payment.getAmount()).withCurrency(payment.getCurrency()).create());
+        // Long::doubleValue is called through a Function<Long, Double> field, which boxes the amount in and out
+        assertAllocatesAtMost("PaymentToPriceMapper", () -> PaymentToPriceMapper.INSTANCE.map(payment),
+                () -> new Price(0, null),
+                () -> payment.getCurrency().toUpperCase(),
+                () -> Long.valueOf(payment.getAmount()),
+                () -> Double.valueOf(payment.getAmount()));
+    }
+
+    // Runs with metrics enabled: recording into the default striped metrics allocates nothing
+    @Test
+    void meteredMappers() {
+        Sensor sensor = new Sensor();
+        sensor.setId("t1");
+        sensor.setReading(1000);
+        sensor.setUnit("C");
+
+        assertAllocatesAtMost("SensorToSensorDtoMapper", () -> SensorToSensorDtoMapper.INSTANCE.map(sensor),
+                SensorDto::new,
+                () -> String.valueOf(sensor.getReading()));
+        assertAllocatesAtMost("SensorToSensorRecordMapper", () -> SensorToSensorRecordMapper.INSTANCE.map(sensor),
+                () -> new SensorRecord(null, null, null),
+                () -> String.valueOf(sensor.getReading()));
+    }
+
+    @Test
+    void graphMappers() {
+        Person person = new Person();
+        person.setName("Alice");
+        Owner owner = new Owner();
+        owner.setName("Bob");
+        Vehicle vehicle = new Vehicle();
+        vehicle.setPlate("AA");
+        vehicle.setOwner(owner);
+        owner.setVehicles(new ArrayList<>(List.of(vehicle)));
+
+        assertAllocatesAtMost("PersonToPersonRecordMapper", () -> PersonToPersonRecordMapper.INSTANCE.map(person),
+                () -> {
+                    GraphContext ctx = new GraphContext();
+                    ctx.reserve(person, PersonRecord.class);
+                    PersonRecord record = new PersonRecord(person.getName(), null);
+                    ctx.put(person, PersonRecord.class, record);
+                    return record;
+                });
+        Supplier<?> ownerGraph = () -> {
+            GraphContext ctx = new GraphContext();
+            OwnerDto ownerDto = new OwnerDto();
+            ctx.put(owner, OwnerDto.class, ownerDto);
+            VehicleDto vehicleDto = new VehicleDto();
+            ctx.put(vehicle, VehicleDto.class, vehicleDto);
+            List<VehicleDto> vehicles = new ArrayList<>(1);
+            vehicles.add(vehicleDto);
+            ownerDto.setVehicles(vehicles);
+            return ownerDto;
+        };
+        assertAllocatesAtMost("OwnerToOwnerDtoMapper", () -> OwnerToOwnerDtoMapper.INSTANCE.map(owner), ownerGraph);
+        assertAllocatesAtMost("VehicleToVehicleDtoMapper", () -> VehicleToVehicleDtoMapper.INSTANCE.map(vehicle), ownerGraph);
+    }
+
+    @Test
+    void wideBean() {
+        WideBean bean = new WideBean();
+        bean.setField0("a");
+        assertAllocatesAtMost("WideBeanMapper", () -> WideBeanMapper.INSTANCE.map(bean), WideBean::new);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.mappers;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the bytes a call allocates on the calling thread with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes}, after a warm-up long enough for the JIT to
+ * compile the call. Results are stored in a static field, so escape analysis cannot remove the allocations being
+ * measured.
+ */
+final class AllocationMeter {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 10_000;
+    private static final int TRIALS = 5;
+
+    // Averaged over MEASURED_CALLS, so anything below this is one-off noise rather than a per-call allocation
+    private static final double TOLERANCE = 0.5;
+
+    static volatile Object sink;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Bytes allocated by one call, the lowest average of several trials.
+     */
+    static double bytesPerCall(Supplier<?> call) {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sink = call.get();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        double best = Double.MAX_VALUE;
+        for (int trial = 0; trial < TRIALS; trial++) {
+            long start = THREADS.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                sink = call.get();
+            }
+            long allocated = THREADS.getThreadAllocatedBytes(threadId) - start;
+            best = Math.min(best, (double) allocated / MEASURED_CALLS);
+        }
+        sink = null;
+        return best;
+    }
+
+    /**
+     * Asserts that {@code mapping} allocates no more than the objects created by the {@code budget} calls together,
+     * each of which allocates one of the objects the mapping is expected to create, e.g. {@code CarDto::new}.
+     */
+    static void assertAllocatesAtMost(String name, Supplier<?> mapping, Supplier<?>... budget) {
+        double[] budgetBytes = Arrays.stream(budget).mapToDouble(AllocationMeter::bytesPerCall).toArray();
+        double allowed = Arrays.stream(budgetBytes).sum();
+        double actual = bytesPerCall(mapping);
+
+        assertTrue(actual <= allowed + TOLERANCE,
+                () -> "%s allocates %.1f bytes per call, over its budget of %.1f bytes %s"
+                        .formatted(name, actual, allowed, Arrays.toString(budgetBytes)));
+    }
+}
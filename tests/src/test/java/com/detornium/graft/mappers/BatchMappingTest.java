@@ -0,0 +1,125 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.models.Car;
+import com.detornium.graft.models.CarDto;
+import com.detornium.graft.models.CarDtoRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchMappingTest {
+
+    @Test
+    void testMapAllList() {
+        List<Car> cars = Arrays.asList(car("Tesla", 1), null, car("Camry", 2));
+
+        List<CarDto> dtos = new CarToCarDtoMapper().mapAll(cars);
+
+        assertEquals(3, dtos.size());
+        assertEquals("Tesla", dtos.get(0).getCarModel());
+        assertNull(dtos.get(1));
+        assertEquals("2", dtos.get(2).getVersion());
+    }
+
+    @Test
+    void testMapAllNonRandomAccessCollection() {
+        Collection<Car> cars = new LinkedList<>(List.of(car("Tesla", 1), car("Camry", 2)));
+
+        List<CarDtoRecord> dtos = new CarToCarDtoRecordMapper().mapAll(cars);
+
+        assertEquals(List.of("Tesla", "Camry"), dtos.stream().map(CarDtoRecord::carModel).toList());
+    }
+
+    @Test
+    void testMapAllArray() {
+        Car[] cars = {car("Tesla", 1), null};
+
+        List<CarDto> dtos = new CarToCarDtoMapper().mapAll(cars);
+
+        assertEquals(2, dtos.size());
+        assertEquals("1", dtos.get(0).getVersion());
+        assertNull(dtos.get(1));
+    }
+
+    @Test
+    void testMapInto() {
+        Set<CarDtoRecord> target = new LinkedHashSet<>();
+
+        Set<CarDtoRecord> result = new CarToCarDtoRecordMapper().mapInto(List.of(car("Tesla", 1)), target);
+
+        assertSame(target, result);
+        assertEquals(1, target.size());
+        assertEquals("Tesla", target.iterator().next().carModel());
+    }
+
+    @Test
+    void testNullSource() {
+        CarToCarDtoMapper mapper = new CarToCarDtoMapper();
+        List<CarDto> target = new ArrayList<>();
+
+        assertNull(mapper.mapAll((Collection<Car>) null));
+        assertNull(mapper.mapAll((Car[]) null));
+        assertSame(target, mapper.mapInto(null, target));
+        assertTrue(target.isEmpty());
+    }
+
+    @Test
+    void testMapAllParallelPreservesOrder() {
+        List<Car> cars = IntStream.range(0, 10_000)
+                .mapToObj(i -> i % 100 == 0 ? null : car("Model" + i, i))
+                .toList();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<CarDto> dtos = new CarToCarDtoMapper().mapAllParallel(cars, 64, pool);
+
+            assertEquals(cars.size(), dtos.size());
+            for (int i = 0; i < cars.size(); i++) {
+                if (cars.get(i) == null) {
+                    assertNull(dtos.get(i));
+                } else {
+                    assertEquals("Model" + i, dtos.get(i).getCarModel());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testMapAllParallelBelowThreshold() {
+        LinkedList<Car> cars = new LinkedList<>(List.of(car("Tesla", 1), car("Camry", 2)));
+
+        List<CarDtoRecord> dtos = new CarToCarDtoRecordMapper().mapAllParallel(cars, 1024);
+
+        assertEquals(List.of("Tesla", "Camry"), dtos.stream().map(CarDtoRecord::carModel).toList());
+        assertNull(new CarToCarDtoRecordMapper().mapAllParallel(null, 1024));
+    }
+
+    private static Car car(String model, int version) {
+        Car car = new Car();
+        car.setModel(model);
+        car.setVersion(version);
+        car.setColor("Red");
+        return car;
+    }
+}
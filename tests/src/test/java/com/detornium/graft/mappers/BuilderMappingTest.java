@@ -0,0 +1,65 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.models.Invoice;
+import com.detornium.graft.models.Payment;
+import com.detornium.graft.models.Receipt;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuilderMappingTest {
+
+    private static Payment payment() {
+        Payment payment = new Payment();
+        payment.setAmount(1250);
+        payment.setCurrency("eur");
+        payment.setNote("paid");
+        return payment;
+    }
+
+    @Test
+    void testBuilder() {
+        Invoice invoice = PaymentToInvoiceMapper.INSTANCE.map(payment());
+
+        assertEquals(1250, invoice.getAmount());
+        assertEquals("EUR", invoice.getCurrency());
+        assertNull(invoice.getNote());
+    }
+
+    @Test
+    void testCustomBuilderMethodNames() {
+        Receipt receipt = PaymentToReceiptMapper.INSTANCE.map(payment());
+
+        assertEquals(1250, receipt.getTotal());
+        assertEquals("eur", receipt.getCurrency());
+    }
+
+    @Test
+    void testPackagePrivateConstructor() {
+        Invoice invoice = com.detornium.graft.models.PaymentToInvoiceMapper.INSTANCE.map(payment());
+
+        assertEquals(Invoice.builder().amount(1250).currency("eur").note("paid").build(), invoice);
+    }
+
+    @Test
+    void testNull() {
+        assertNull(PaymentToInvoiceMapper.INSTANCE.map(null));
+    }
+}
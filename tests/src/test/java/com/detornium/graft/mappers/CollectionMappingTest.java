@@ -0,0 +1,80 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.models.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectionMappingTest {
+
+    private static Address address(String street, String city) {
+        Address address = new Address();
+        address.setStreet(street);
+        address.setCity(city);
+        return address;
+    }
+
+    private static Branch branch() {
+        Branch branch = new Branch();
+        branch.setOffices(new LinkedList<>(List.of(address("Main St 1", "Lviv"), address("Side St 2", "Kyiv"))));
+        Map<String, Address> byCode = new LinkedHashMap<>();
+        byCode.put("LV", address("Main St 1", "Lviv"));
+        byCode.put("KY", null);
+        branch.setOfficesByCode(byCode);
+        branch.setTags(new LinkedHashSet<>(List.of(" new", "open ")));
+        branch.setStock(Map.of(" a", 1, "b ", 2));
+        branch.setNotes(List.of(" first", "second "));
+        return branch;
+    }
+
+    @Test
+    void testElementMapping() {
+        BranchDto dto = BranchToBranchDtoMapper.INSTANCE.map(branch());
+
+        assertEquals(List.of(new AddressDto("Main St 1", "Lviv"), new AddressDto("Side St 2", "Kyiv")), dto.getOffices());
+        assertInstanceOf(ArrayList.class, dto.getOffices());
+        assertEquals(new AddressDto("Main St 1", "Lviv"), dto.getOfficesByCode().get("LV"));
+        assertTrue(dto.getOfficesByCode().containsKey("KY"));
+        assertNull(dto.getOfficesByCode().get("KY"));
+        assertEquals(List.of("new", "open"), dto.getLabels());
+        assertEquals(new TreeMap<>(Map.of("a", 1L, "b", 2L)), dto.getStock());
+        assertEquals(List.of("first", "second"), List.copyOf(dto.getNotes()));
+    }
+
+    @Test
+    void testElementMappingToRecord() {
+        BranchDtoRecord dto = BranchToBranchDtoRecordMapper.INSTANCE.map(branch());
+
+        assertEquals(Set.of(new AddressDto("Main St 1", "Lviv"), new AddressDto("Side St 2", "Kyiv")), dto.offices());
+        assertEquals(List.of("LV", "KY"), List.copyOf(dto.officesByCode().keySet()));
+    }
+
+    @Test
+    void testNullCollections() {
+        BranchDto dto = BranchToBranchDtoMapper.INSTANCE.map(new Branch());
+
+        assertNull(dto.getOffices());
+        assertNull(dto.getOfficesByCode());
+        assertNull(dto.getLabels());
+        assertNull(dto.getStock());
+        assertNull(dto.getNotes());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.models.Money;
+import com.detornium.graft.models.Payment;
+import com.detornium.graft.models.Price;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstructorMappingTest {
+
+    private static Payment payment() {
+        Payment payment = new Payment();
+        payment.setAmount(1250);
+        payment.setCurrency("eur");
+        payment.setNote("ignored");
+        return payment;
+    }
+
+    @Test
+    void testAllArgsConstructor() {
+        Money money = PaymentToMoneyMapper.INSTANCE.map(payment());
+
+        assertEquals(1250, money.getAmount());
+        assertEquals("eur", money.getCurrency());
+    }
+
+    @Test
+    void testConstructorProperties() {
+        Price price = PaymentToPriceMapper.INSTANCE.map(payment());
+
+        assertEquals(1250.0, price.getValue());
+        assertEquals("EUR", price.getCurrencyCode());
+    }
+
+    @Test
+    void testNull() {
+        assertNull(PaymentToMoneyMapper.INSTANCE.map(null));
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.models.ConverterTestBean;
+import com.detornium.graft.models.ConverterTestDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConverterTest {
+
+    @Test
+    void testDirectConverterCalls() {
+        ConverterTestBean src = new ConverterTestBean();
+        src.setCount(255);
+        src.setName("Tesla");
+        src.setAmount("12.50");
+
+        ConverterTestDto dst = new ConverterTestMapper().map(src);
+
+        assertEquals("ff", dst.getCountHex()); // static method with primitive parameter
+        assertEquals(5, dst.getNameLength()); // unbound instance method
+        assertEquals(new BigDecimal("12.50"), dst.getAmount()); // constructor
+        assertEquals("Tesla x255", dst.getLabel()); // static method taking the source
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.models.Quote;
+import com.detornium.graft.models.QuoteDto;
+import com.detornium.graft.models.QuoteToQuoteDtoMapper;
+import com.detornium.graft.models.Ticket;
+import com.detornium.graft.models.TicketDto;
+import com.detornium.graft.models.TicketToTicketDtoMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldAccessTest {
+
+    private static Quote quote() {
+        Quote quote = new Quote();
+        quote.id = 7;
+        quote.price = 1.5;
+        quote.setVenue("XETRA");
+        return quote;
+    }
+
+    @Test
+    void testSamePackageFields() {
+        QuoteDto dto = QuoteToQuoteDtoMapper.INSTANCE.map(quote());
+
+        assertEquals(7L, dto.id); // int -> long
+        assertEquals(1.5, dto.price);
+        assertEquals("XETRA", dto.venue); // getter -> field
+        assertEquals("graft", dto.source); // final field is not written
+    }
+
+    @Test
+    void testNullBoxedFieldToPrimitive() {
+        Quote quote = quote();
+        quote.price = null;
+
+        assertEquals(0.0, QuoteToQuoteDtoMapper.INSTANCE.map(quote).price);
+    }
+
+    @Test
+    void testOtherPackagePublicFieldsOnly() {
+        QuoteDto dto = QuoteToQuoteDtoPublicMapper.INSTANCE.map(quote());
+
+        assertEquals(7L, dto.id);
+        assertEquals("XETRA", dto.venue);
+    }
+
+    @Test
+    void testSetterTargetFieldsAreNotMapped() {
+        Ticket ticket = new Ticket();
+        ticket.setCode("T-1");
+        ticket.setRevision(3);
+
+        TicketDto dto = TicketToTicketDtoMapper.INSTANCE.map(ticket);
+
+        assertEquals("T-1", dto.getCode());
+        assertEquals(0, dto.getRevision());
+    }
+}
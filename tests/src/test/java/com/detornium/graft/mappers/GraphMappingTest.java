@@ -0,0 +1,138 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.GraphContext;
+import com.detornium.graft.models.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphMappingTest {
+
+    private static Owner owner(String name, int vehicles) {
+        Owner owner = new Owner();
+        owner.setName(name);
+        owner.setVehicles(new ArrayList<>());
+        for (int i = 0; i < vehicles; i++) {
+            Vehicle vehicle = new Vehicle();
+            vehicle.setPlate(name + i);
+            vehicle.setOwner(owner);
+            owner.getVehicles().add(vehicle);
+        }
+        return owner;
+    }
+
+    @Test
+    void testCycles() {
+        OwnerDto dto = OwnerToOwnerDtoMapper.INSTANCE.map(owner("AA", 3));
+
+        assertEquals("AA", dto.getName());
+        assertEquals(3, dto.getVehicles().size());
+        for (VehicleDto vehicle : dto.getVehicles()) {
+            assertSame(dto, vehicle.getOwner());
+        }
+        assertEquals("AA2", dto.getVehicles().get(2).getPlate());
+    }
+
+    @Test
+    void testSharedReferencesInBatch() {
+        Owner owner = owner("BB", 1000);
+
+        List<VehicleDto> dtos = VehicleToVehicleDtoMapper.INSTANCE.mapAll(owner.getVehicles());
+
+        OwnerDto ownerDto = dtos.get(0).getOwner();
+        assertEquals(1000, ownerDto.getVehicles().size());
+        for (int i = 0; i < dtos.size(); i++) {
+            assertSame(ownerDto, dtos.get(i).getOwner());
+            assertSame(dtos.get(i), ownerDto.getVehicles().get(i));
+        }
+    }
+
+    @Test
+    void testSeparateCallsDoNotShareTargets() {
+        Owner owner = owner("CC", 1);
+
+        assertNotSame(OwnerToOwnerDtoMapper.INSTANCE.map(owner), OwnerToOwnerDtoMapper.INSTANCE.map(owner));
+
+        GraphContext ctx = new GraphContext();
+        assertSame(OwnerToOwnerDtoMapper.INSTANCE.map(owner, ctx), OwnerToOwnerDtoMapper.INSTANCE.map(owner, ctx));
+    }
+
+    @Test
+    void testRecordTargets() {
+        Person shared = new Person();
+        shared.setName("Bob");
+        Person alice = new Person();
+        alice.setName("Alice");
+        alice.setPartner(shared);
+
+        GraphContext ctx = new GraphContext();
+        PersonRecord aliceRecord = PersonToPersonRecordMapper.INSTANCE.map(alice, ctx);
+        assertSame(aliceRecord.partner(), PersonToPersonRecordMapper.INSTANCE.map(shared, ctx));
+
+        shared.setPartner(alice);
+        assertThrows(IllegalStateException.class, () -> PersonToPersonRecordMapper.INSTANCE.map(alice));
+    }
+
+    @Test
+    void testSameSourceToDifferentTargets() {
+        Person person = new Person();
+        person.setName("Carol");
+        person.setPartner(person);
+        Booking booking = new Booking();
+        booking.setCustomer(person);
+        booking.setContact(person);
+
+        BookingDto dto = BookingToBookingDtoMapper.INSTANCE.map(booking);
+
+        assertEquals("Carol", dto.getCustomer().getName());
+        assertSame(dto.getCustomer(), dto.getCustomer().getPartner());
+        assertEquals("Carol", dto.getContact().getName());
+
+        GraphContext ctx = new GraphContext();
+        ContactDto contact = PersonToContactDtoMapper.INSTANCE.map(person, ctx);
+        assertSame(contact, PersonToContactDtoMapper.INSTANCE.map(person, ctx));
+        assertSame(PersonToPersonDtoMapper.INSTANCE.map(person, ctx), ctx.get(person, PersonDto.class));
+        assertSame(contact, ctx.get(person, ContactDto.class));
+        assertEquals(2, ctx.size());
+    }
+
+    @Test
+    void testContextGrowth() {
+        GraphContext ctx = new GraphContext(1);
+        List<Object> keys = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Object key = new Object();
+            keys.add(key);
+            ctx.put(key, Integer.class, i);
+            ctx.put(key, String.class, String.valueOf(i));
+        }
+
+        assertEquals(20_000, ctx.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(i, ctx.get(keys.get(i), Integer.class));
+            assertEquals(String.valueOf(i), ctx.get(keys.get(i), String.class));
+        }
+        assertNull(ctx.get(keys.get(0), Long.class));
+        assertNull(ctx.get(new Object(), Integer.class));
+    }
+}
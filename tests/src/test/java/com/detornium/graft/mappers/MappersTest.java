@@ -0,0 +1,67 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.MapperIndex;
+import com.detornium.graft.Mappers;
+import com.detornium.graft.models.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappersTest {
+
+    @Test
+    void testLookup() {
+        assertSame(CarToCarDtoMapper.INSTANCE, Mappers.get(Car.class, CarDto.class));
+        assertSame(CarToCarDtoRecordMapper.INSTANCE, Mappers.get(Car.class, CarDtoRecord.class));
+        assertSame(Mappers.get(Car.class, CarDto.class), Mappers.get(Car.class, CarDto.class));
+        assertTrue(Mappers.find(CarDto.class, Car.class).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> Mappers.get(CarDto.class, Car.class));
+    }
+
+    @Test
+    void testIndexName() throws ReflectiveOperationException {
+        // Named with -Agraft.index in the pom
+        MapperIndex index = (MapperIndex) Class.forName("com.detornium.graft.mappers.GraftMappers")
+                .getConstructor()
+                .newInstance();
+
+        assertSame(CarToCarDtoMapper.INSTANCE, index.find(Car.class, CarDto.class));
+    }
+
+    @Test
+    void testMapByRuntimeClass() {
+        Address address = new Address();
+        address.setStreet("Main St 1");
+        address.setCity("Lviv");
+
+        assertEquals(new AddressDto("Main St 1", "Lviv"), Mappers.map(address, AddressDto.class));
+        assertNull(Mappers.map(null, AddressDto.class));
+    }
+
+    @Test
+    void testSubclassUsesSuperclassMapper() {
+        Address address = new Address() {
+        };
+        address.setCity("Kyiv");
+
+        assertSame(AddressToAddressDtoMapper.INSTANCE, Mappers.get(address.getClass(), AddressDto.class));
+        assertEquals("Kyiv", Mappers.map(address, AddressDto.class).city());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.metrics.GraftMetrics;
+import com.detornium.graft.metrics.MapperStats;
+import com.detornium.graft.metrics.StripedMapperMetrics;
+import com.detornium.graft.models.Car;
+import com.detornium.graft.models.Sensor;
+import com.detornium.graft.models.SensorDto;
+import com.detornium.graft.models.SensorRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The tests run with -Dgraft.metrics=true, see the surefire configuration
+class MeteredMapperTest {
+
+    private static Sensor sensor(String id, int reading) {
+        Sensor sensor = new Sensor();
+        sensor.setId(id);
+        sensor.setReading(reading);
+        sensor.setUnit("c");
+        return sensor;
+    }
+
+    // Mappers get their probes when the class is initialized
+    private static MapperStats stats(Object mapper) {
+        StripedMapperMetrics metrics = (StripedMapperMetrics) GraftMetrics.metrics();
+        return metrics.snapshot(mapper.getClass().getName()).orElseThrow();
+    }
+
+    @Test
+    void testSingleCallsAndConverters() {
+        MapperStats before = stats(SensorToSensorDtoMapper.INSTANCE);
+
+        SensorDto dto = SensorToSensorDtoMapper.INSTANCE.map(sensor("t1", 21));
+        SensorToSensorDtoMapper.INSTANCE.update(sensor("t2", 22), new SensorDto());
+        SensorToSensorDtoMapper.INSTANCE.mapNonNull(sensor("t3", 23));
+        assertNull(SensorToSensorDtoMapper.INSTANCE.map(null));
+
+        MapperStats after = stats(SensorToSensorDtoMapper.INSTANCE);
+        assertEquals("21", dto.getReading());
+        assertEquals("C", dto.getUnit());
+        assertEquals(4, after.maps().count() - before.maps().count());
+        assertEquals(3, after.converters().get("reading").count() - before.converters().get("reading").count());
+        assertEquals(3, after.converters().get("unit").count() - before.converters().get("unit").count());
+        assertEquals(before.batches().count(), after.batches().count());
+    }
+
+    @Test
+    void testBatchSizes() {
+        MapperStats before = stats(SensorToSensorRecordMapper.INSTANCE);
+
+        List<SensorRecord> records = SensorToSensorRecordMapper.INSTANCE.mapAll(
+                Arrays.asList(sensor("t1", 1), null, sensor("t3", 3)));
+        SensorToSensorRecordMapper.INSTANCE.mapInto(List.of(sensor("t4", 4)), new ArrayList<>(records));
+        SensorToSensorRecordMapper.INSTANCE.mapAllParallel(List.of(sensor("t5", 5), sensor("t6", 6)), 1);
+        // Elements are counted as mapped, whether or not the set already holds an equal one
+        SensorToSensorRecordMapper.INSTANCE.mapInto(List.of(sensor("t1", 1), sensor("t7", 7)), new HashSet<>(records));
+
+        MapperStats after = stats(SensorToSensorRecordMapper.INSTANCE);
+        assertEquals(new SensorRecord("t3", "3", "C"), records.get(2));
+        assertEquals(4, after.batches().count() - before.batches().count());
+        assertEquals(8, after.batchSizes().sum() - before.batchSizes().sum());
+        assertEquals(7, after.converters().get("reading").count() - before.converters().get("reading").count());
+        assertEquals(before.maps().count(), after.maps().count());
+    }
+
+    @Test
+    void testMappersWithoutMetered() {
+        CarToCarDtoMapper.INSTANCE.map(new Car());
+
+        StripedMapperMetrics metrics = (StripedMapperMetrics) GraftMetrics.metrics();
+        assertTrue(GraftMetrics.ENABLED);
+        assertTrue(metrics.snapshot(CarToCarDtoMapper.class.getName()).isEmpty());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.models.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NestedMappingTest {
+
+    @Test
+    void testNestedGraph() {
+        Address address = new Address();
+        address.setStreet("Main St 1");
+        address.setCity("Lviv");
+
+        Customer customer = new Customer();
+        customer.setName("Alice");
+        customer.setAddress(address);
+
+        Order order = new Order();
+        order.setId("42");
+        order.setCustomer(customer);
+
+        OrderDto dto = OrderToOrderDtoMapper.INSTANCE.map(order);
+
+        assertEquals("42", dto.getId());
+        assertEquals("Alice", dto.getCustomer().getName()); // auto nested mapping
+        assertEquals(new AddressDto("Main St 1", "Lviv"), dto.getCustomer().getHomeAddress()); // explicit nested()
+    }
+
+    @Test
+    void testNestedNulls() {
+        Order order = new Order();
+        order.setCustomer(new Customer());
+
+        OrderDto dto = new OrderToOrderDtoMapper().map(order);
+
+        assertNotNull(dto.getCustomer());
+        assertNull(dto.getCustomer().getHomeAddress());
+        assertNull(new OrderToOrderDtoMapper().map(new Order()).getCustomer());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.Mapper;
+import com.detornium.graft.models.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NullabilityTest {
+
+    private static Shipment shipment() {
+        Address origin = new Address();
+        origin.setStreet("Main St");
+        origin.setCity("Lviv");
+
+        Shipment shipment = new Shipment();
+        shipment.setOrigin(origin);
+        shipment.setTags(new ArrayList<>(List.of("fragile")));
+        shipment.setWeight(12);
+        return shipment;
+    }
+
+    @Test
+    void testNonNullProperties() {
+        Shipment shipment = shipment();
+
+        ShipmentDto dto = ShipmentToShipmentDtoMapper.INSTANCE.map(shipment);
+
+        assertEquals(new AddressDto("Main St", "Lviv"), dto.getOrigin());
+        assertEquals(List.of("fragile"), dto.getTags());
+        assertNotSame(shipment.getTags(), dto.getTags());
+        assertEquals(12L, dto.getWeight());
+        assertNull(dto.getVolume());
+    }
+
+    @Test
+    void testPropertiesWithoutNullnessGuarantee() {
+        Shipment shipment = shipment();
+        shipment.setVolume(null);
+        shipment.setPriority(null); // a validation @NotNull does not remove the null check
+
+        ShipmentDto dto = ShipmentToShipmentDtoMapper.INSTANCE.map(shipment);
+
+        assertEquals(12L, dto.getWeight());
+        assertNull(dto.getVolume());
+        assertNull(dto.getPriority());
+    }
+
+    @Test
+    void testNonNullRecordComponent() {
+        Parcel parcel = new Parcel(new int[]{3, 4}, null);
+
+        ParcelDto dto = ParcelToParcelDtoMapper.INSTANCE.map(parcel);
+
+        assertArrayEquals(parcel.sizes(), dto.getSizes());
+        assertNotSame(parcel.sizes(), dto.getSizes());
+        assertNull(dto.getLabel());
+    }
+
+    @Test
+    void testMapNonNull() {
+        Shipment shipment = shipment();
+
+        assertEquals(ShipmentToShipmentDtoMapper.INSTANCE.map(shipment),
+                ShipmentToShipmentDtoMapper.INSTANCE.mapNonNull(shipment));
+        assertNull(ShipmentToShipmentDtoMapper.INSTANCE.map(null));
+    }
+
+    @Test
+    void testDefaultMapNonNull() {
+        Mapper<String, Integer> mapper = String::length;
+
+        assertEquals(3, mapper.mapNonNull("abc"));
+    }
+}
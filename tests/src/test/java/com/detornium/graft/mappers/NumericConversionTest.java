@@ -0,0 +1,80 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.models.NumericBean;
+import com.detornium.graft.models.NumericDto;
+import com.detornium.graft.models.NumericDtoRecord;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumericConversionTest {
+
+    @Test
+    void testWideningAndUnboxing() {
+        NumericBean src = createNumericBean();
+
+        NumericDto dst = new NumericConversionMapper().map(src);
+
+        assertEquals(42L, dst.getIntValue()); // int -> long
+        assertEquals(7, dst.getBoxedInt()); // Integer -> int
+        assertEquals(0.5d, dst.getRatio()); // float -> double
+        assertEquals('A', dst.getLetter()); // char -> int
+        assertEquals(3L, dst.getSmall()); // short -> Long
+        assertEquals(11L, dst.getCode()); // Integer -> Long
+        assertEquals(100L, dst.getTotal()); // explicit Integer -> long
+    }
+
+    @Test
+    void testNullUnboxingDefaults() {
+        NumericBean src = new NumericBean();
+
+        NumericDto dst = new NumericConversionMapper().map(src);
+
+        assertEquals(0, dst.getBoxedInt()); // zero value without @UnboxingDefaults value
+        assertEquals(-1L, dst.getTotal()); // @UnboxingDefaults(longValue = -1L)
+        assertNull(dst.getCode());
+    }
+
+    @Test
+    void testRecordConversions() {
+        NumericDtoRecord dst = new NumericConversionRecordMapper().map(createNumericBean());
+
+        assertEquals(42L, dst.intValue());
+        assertEquals(7, dst.boxedInt());
+        assertEquals(0.5d, dst.ratio());
+        assertEquals(11L, dst.code());
+        assertEquals(100L, dst.count());
+
+        NumericDtoRecord empty = new NumericConversionRecordMapper().map(new NumericBean());
+        assertEquals(0, empty.boxedInt());
+        assertEquals(0L, empty.count());
+        assertNull(empty.code());
+    }
+
+    private static NumericBean createNumericBean() {
+        NumericBean src = new NumericBean();
+        src.setIntValue(42);
+        src.setBoxedInt(7);
+        src.setRatio(0.5f);
+        src.setLetter('A');
+        src.setSmall((short) 3);
+        src.setCode(11);
+        src.setCount(100);
+        return src;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.models.Reading;
+import com.detornium.graft.models.ReadingDto;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SourceValueLocalsTest {
+
+    @Test
+    void testGetterCalledOncePerProperty() {
+        Reading reading = new Reading();
+        reading.setValue(42);
+        reading.setSamples(new int[]{1, 2});
+
+        int[] samples = reading.getSamples();
+        int reads = reading.getReads();
+
+        ReadingDto dto = ReadingToReadingDtoMapper.INSTANCE.map(reading);
+
+        assertEquals(reads + 2, reading.getReads());
+        assertEquals(42, dto.getValue());
+        assertEquals(42, dto.getTotal());
+        assertEquals("42", dto.getLabel());
+        assertArrayEquals(samples, dto.getSamples());
+        assertNotSame(samples, dto.getSamples());
+    }
+
+    @Test
+    void testNullValues() {
+        Reading reading = new Reading();
+
+        ReadingDto dto = ReadingToReadingDtoMapper.INSTANCE.map(reading);
+
+        assertNull(dto.getValue());
+        assertNull(dto.getTotal());
+        assertEquals("null", dto.getLabel());
+        assertNull(dto.getSamples());
+        assertEquals(2, reading.getReads());
+    }
+}
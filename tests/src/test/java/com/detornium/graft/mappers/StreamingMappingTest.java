@@ -0,0 +1,95 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.models.Car;
+import com.detornium.graft.models.CarDto;
+import com.detornium.graft.models.CarDtoRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingMappingTest {
+
+    @Test
+    void testMapIterator() {
+        List<Car> cars = new ArrayList<>(Arrays.asList(car("Tesla"), null, car("Camry")));
+
+        Iterator<CarDto> iterator = new CarToCarDtoMapper().mapIterator(cars.iterator());
+
+        assertEquals("Tesla", iterator.next().getCarModel());
+        iterator.remove();
+        assertNull(iterator.next());
+        assertEquals("Camry", iterator.next().getCarModel());
+        assertFalse(iterator.hasNext());
+        assertEquals(2, cars.size()); // remove is delegated to the source
+    }
+
+    @Test
+    void testMapSpliteratorPreservesCharacteristics() {
+        List<Car> cars = IntStream.range(0, 1000).mapToObj(i -> car("Model" + i)).toList();
+
+        Spliterator<CarDtoRecord> spliterator = new CarToCarDtoRecordMapper().mapSpliterator(cars.spliterator());
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(1000, spliterator.getExactSizeIfKnown());
+
+        List<String> models = StreamSupport.stream(spliterator, true)
+                .map(CarDtoRecord::carModel)
+                .toList();
+
+        assertEquals(cars.stream().map(Car::getModel).toList(), models);
+    }
+
+    @Test
+    void testMapSpliteratorClearsValueCharacteristics() {
+        Spliterator<Car> source = new TreeSet<Car>(Comparator.comparing(Car::getModel))
+                .spliterator();
+
+        Spliterator<CarDto> spliterator = new CarToCarDtoMapper().mapSpliterator(source);
+
+        assertTrue(source.hasCharacteristics(Spliterator.SORTED | Spliterator.DISTINCT));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SORTED));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+    }
+
+    @Test
+    void testToCollector() {
+        CarToCarDtoMapper mapper = new CarToCarDtoMapper();
+
+        List<CarDto> dtos = Stream.of(car("Tesla"), car("Camry")).collect(mapper.toCollector());
+        Set<String> models = Stream.of(car("Tesla"), car("Tesla"))
+                .collect(mapper.toCollector(Collectors.mapping(CarDto::getCarModel, Collectors.toSet())));
+
+        assertEquals(List.of("Tesla", "Camry"), dtos.stream().map(CarDto::getCarModel).toList());
+        assertEquals(Set.of("Tesla"), models);
+    }
+
+    private static Car car(String model) {
+        Car car = new Car();
+        car.setModel(model);
+        car.setVersion(1);
+        return car;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.UpdatingMapper;
+import com.detornium.graft.models.Car;
+import com.detornium.graft.models.CarDto;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpdatingMapperTest {
+
+    @Test
+    void testUpdateExistingTarget() {
+        Car car = new Car();
+        car.setModel("Tesla");
+        car.setVersion(3);
+        car.setColor("Red");
+
+        CarDto dto = new CarDto();
+        dto.setOwner("Alice"); // excluded, must survive the update
+        dto.setCarModel("Old");
+
+        UpdatingMapper<Car, CarDto> mapper = new CarToCarDtoMapper();
+        mapper.update(car, dto);
+
+        assertEquals("Tesla", dto.getCarModel());
+        assertEquals("3", dto.getVersion());
+        assertEquals("Red Tesla", dto.getDescription());
+        assertEquals("N/A", dto.getNotes());
+        assertEquals("Alice", dto.getOwner());
+    }
+
+    @Test
+    void testUpdateNullSource() {
+        CarDto dto = new CarDto();
+        dto.setCarModel("Old");
+
+        new CarToCarDtoMapper().update(null, dto);
+
+        assertEquals("Old", dto.getCarModel());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package com.detornium.graft.mappers;
+
+import com.detornium.graft.models.WideBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WideBeanMapperTest {
+
+    @Test
+    void testBodyIsSplitIntoChunks() {
+        long chunks = Arrays.stream(WideBeanMapper.class.getDeclaredMethods())
+                .filter(m -> m.getName().startsWith("mapChunk"))
+                .peek(m -> assertTrue(Modifier.isPrivate(m.getModifiers())))
+                .count();
+
+        assertTrue(chunks > 1);
+    }
+
+    @Test
+    void testAllPropertiesMapped() throws Exception {
+        WideBean bean = new WideBean();
+        for (int i = 0; i < 60; i++) {
+            WideBean.class.getMethod("setField" + i, String.class).invoke(bean, "value" + i);
+        }
+
+        WideBean result = WideBeanMapper.INSTANCE.map(bean);
+
+        assertNotSame(bean, result);
+        assertEquals(bean, result);
+        for (int i = 0; i < 60; i++) {
+            Method getter = WideBean.class.getMethod("getField" + i);
+            assertEquals("value" + i, getter.invoke(result));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedMapperMetricsTest {
+
+    @Test
+    void testHistogramBuckets() {
+        StripedMapperMetrics metrics = new StripedMapperMetrics();
+        MapperProbe probe = metrics.probe("m");
+
+        for (long nanos : new long[]{0, 1, 2, 3, 100, 1000}) {
+            probe.recordMap(nanos);
+        }
+
+        HistogramSnapshot maps = metrics.snapshot("m").orElseThrow().maps();
+        assertEquals(6, maps.count());
+        assertEquals(1106, maps.sum());
+        assertArrayEquals(new long[]{1, 1, 2, 0, 0, 0, 0, 1, 0, 0, 1}, Arrays.copyOf(maps.buckets(), 11));
+        assertEquals(3, maps.percentile(50.0));
+        assertEquals(1023, maps.percentile(100.0));
+        assertEquals(0, maps.percentile(0.0));
+    }
+
+    @Test
+    void testBatchesAndConverters() {
+        StripedMapperMetrics metrics = new StripedMapperMetrics();
+        MapperProbe probe = metrics.probe("m");
+        ConverterProbe converter = probe.converter("price");
+
+        probe.recordBatch(10, 500);
+        probe.recordBatch(0, 20);
+        converter.record(7);
+
+        MapperStats stats = metrics.snapshot().get("m");
+        assertEquals(2, stats.batches().count());
+        assertEquals(10, stats.batchSizes().sum());
+        assertEquals(10, stats.mappedObjects());
+        assertEquals(1, stats.converters().get("price").count());
+        assertSame(probe, metrics.probe("m"));
+    }
+
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        StripedMapperMetrics metrics = new StripedMapperMetrics();
+        MapperProbe probe = metrics.probe("m");
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    probe.recordMap(i);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        HistogramSnapshot maps = metrics.snapshot("m").orElseThrow().maps();
+        assertEquals(80_000, maps.count());
+        assertEquals(8L * (10_000L * 9_999 / 2), maps.sum());
+    }
+}
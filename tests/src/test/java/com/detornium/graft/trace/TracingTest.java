@@ -0,0 +1,92 @@
+/*
+ *     Copyright 2025 Taras Semaniv
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package com.detornium.graft.trace;
+
+import com.detornium.graft.mappers.CarToCarDtoTracedMapper;
+import com.detornium.graft.mappers.CarToCarDtoRecordTracedMapper;
+import com.detornium.graft.mappers.PaymentToInvoiceTracedMapper;
+import com.detornium.graft.models.Car;
+import com.detornium.graft.models.Payment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs in its own surefire execution with -Dgraft.trace=true; the mappers are compiled from src/traced with
+// -Agraft.trace=true
+class TracingTest {
+
+    private final List<List<Object>> traces = new ArrayList<>();
+
+    @BeforeEach
+    void installTracer() {
+        GraftTracing.setTracer((mapper, property, sourceValue, targetValue) ->
+                traces.add(Arrays.asList(mapper, property, sourceValue, targetValue)));
+    }
+
+    @AfterEach
+    void restoreTracer() {
+        GraftTracing.setTracer(null);
+    }
+
+    private static Car car() {
+        Car car = new Car();
+        car.setColor("Red");
+        car.setModel("Tesla");
+        car.setVersion(3);
+        return car;
+    }
+
+    private List<Object> trace(String property) {
+        return traces.stream()
+                .filter(t -> t.get(1).equals(property))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No trace of " + property));
+    }
+
+    @Test
+    void testBeanTarget() {
+        Car car = car();
+        CarToCarDtoTracedMapper.INSTANCE.map(car);
+
+        assertTrue(GraftTracing.ENABLED);
+        assertEquals(List.of(CarToCarDtoTracedMapper.class, "version", 3, "3"), trace("version"));
+        assertEquals(List.of(CarToCarDtoTracedMapper.class, "carModel", "Tesla", "Tesla"), trace("carModel"));
+        assertEquals(Arrays.asList(CarToCarDtoTracedMapper.class, "previousOwners", null, null), trace("previousOwners"));
+        assertSame(car, trace("description").get(2)); // self() mappings trace the source itself
+        assertEquals("Red Tesla", trace("description").get(3));
+        assertEquals(List.of(CarToCarDtoTracedMapper.class, "notes", "N/A", "N/A"), trace("notes"));
+        assertTrue(traces.stream().noneMatch(t -> t.get(1).equals("owner")));
+    }
+
+    @Test
+    void testConstructorAndBuilderTargets() {
+        CarToCarDtoRecordTracedMapper.INSTANCE.map(car());
+        assertEquals(List.of(CarToCarDtoRecordTracedMapper.class, "version", 3, "3"), trace("version"));
+
+        Payment payment = new Payment();
+        payment.setAmount(1250);
+        payment.setCurrency("eur");
+        PaymentToInvoiceTracedMapper.INSTANCE.map(payment);
+        assertEquals(List.of(PaymentToInvoiceTracedMapper.class, "currency", "eur", "EUR"), trace("currency"));
+    }
+}